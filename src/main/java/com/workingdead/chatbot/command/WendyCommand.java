@@ -1,62 +1,171 @@
 package com.workingdead.chatbot.command;
 
+import com.workingdead.chatbot.executor.GuildFairScheduler;
+import com.workingdead.chatbot.gateway.ShardAssignment;
+import com.workingdead.chatbot.outbound.OutboundMessageDispatcher;
 import com.workingdead.chatbot.scheduler.WendyScheduler;
 import com.workingdead.chatbot.service.WendyService;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
+import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.entities.channel.ChannelType;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
-import net.dv8tion.jda.api.entities.emoji.Emoji;
+import net.dv8tion.jda.api.events.interaction.command.SlashCommandInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.EntitySelectInteractionEvent;
 import net.dv8tion.jda.api.events.interaction.component.StringSelectInteractionEvent;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
-import net.dv8tion.jda.api.events.message.react.MessageReactionAddEvent;
+import net.dv8tion.jda.api.events.session.ReadyEvent;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.interactions.commands.build.Commands;
+import net.dv8tion.jda.api.interactions.commands.build.SubcommandData;
 import net.dv8tion.jda.api.interactions.components.selections.EntitySelectMenu;
 import net.dv8tion.jda.api.interactions.components.selections.StringSelectMenu;
+import net.dv8tion.jda.api.utils.messages.MessageCreateBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.HashSet;
+import java.util.Set;
 
 @Component
 public class WendyCommand extends ListenerAdapter {
     
     private final WendyService wendyService;
     private final WendyScheduler wendyScheduler;
-    
-    private final Map<String, String> participantCheckMessages = new ConcurrentHashMap<>();
-    private final Map<String, Boolean> waitingForDateInput = new ConcurrentHashMap<>();
+    private final OutboundMessageDispatcher outbound;
+    private final ShardAssignment shardAssignment;
+    private final GuildFairScheduler fairScheduler;
 
+    // '웬디 시작' 같은 채팅 명령 (MESSAGE_CONTENT 인텐트 필요, 기본값 off → 슬래시 커맨드만 사용)
+    private final boolean messageCommandsEnabled;
+    
     private static final String ATTENDEE_SELECT_MENU_ID = "wendy-attendees";
     private static final String WEEK_SELECT_MENU_ID = "wendy-weeks";
     private static final String WEEK_SELECT_MENU_REVOTE_ID = "wendy-weeks-revote";
+
+    private static final String SLASH_COMMAND = "wendy";
+    private static final Set<String> MESSAGE_COMMANDS = Set.of("웬디 시작", "/help", "웬디 도움말", "웬디 재투표", "웬디 종료");
+    private static final String BUSY_MESSAGE = "지금 요청이 많아 처리하지 못했어요. 잠시 후 다시 시도해 주세요!";
+    private static final String HELP_MESSAGE = """
+            웬디는 다음과 같은 기능이 있어요!
+            
+            **/wendy start**: 일정 조율을 시작해요
+            **/wendy end**: 작동을 종료해요
+            **/wendy revote**: 동일한 참석자로 투표를 다시 올려요
+            """;
     
-    public WendyCommand(WendyService wendyService, WendyScheduler wendyScheduler) {
+    public WendyCommand(WendyService wendyService, WendyScheduler wendyScheduler, OutboundMessageDispatcher outbound,
+                        ShardAssignment shardAssignment,
+                        GuildFairScheduler fairScheduler,
+                        @Value("${discord.message-commands.enabled:false}") boolean messageCommandsEnabled) {
         this.wendyService = wendyService;
         this.wendyScheduler = wendyScheduler;
+        this.outbound = outbound;
+        this.shardAssignment = shardAssignment;
+        this.fairScheduler = fairScheduler;
+        this.messageCommandsEnabled = messageCommandsEnabled;
+    }
+
+    @Override
+    public void onReady(ReadyEvent event) {
+        // 전역 커맨드는 애플리케이션 단위이므로 0번 샤드를 맡은 노드만 등록 (덮어쓰기라 재등록해도 무방)
+        if (event.getJDA().getShardInfo().getShardId() != 0) {
+            return;
+        }
+        event.getJDA().updateCommands()
+                .addCommands(Commands.slash(SLASH_COMMAND, "일정 조율 도우미 웬디")
+                        .setGuildOnly(true)
+                        .addSubcommands(
+                                new SubcommandData("start", "일정 조율을 시작해요"),
+                                new SubcommandData("end", "웬디를 종료해요"),
+                                new SubcommandData("revote", "동일한 참석자로 투표를 다시 올려요"),
+                                new SubcommandData("help", "웬디 사용법을 알려줘요")))
+                .queue(
+                        commands -> System.out.println("[Command] Slash commands registered: " + commands.size()),
+                        error -> System.err.println("[Command] Failed to register slash commands: " + error.getMessage())
+                );
+    }
+
+    // 아래 리스너들은 세션/투표 조회·저장이 있으므로 길드별 공정 큐에 넣어 처리 (실행 시 DB 동시 실행 허용을 받음)
+    // 이벤트는 가상 스레드에서 동시에 들어오므로 채널 id 로 줄을 세워 같은 채널의 명령/선택은 도착 순서대로 처리
+    // 인터랙션은 3초 안에 응답해야 하므로 큐에 넣기 전에 JDA 스레드에서 먼저 defer 하고, 결과는 hook 으로 보냄
+    @Override
+    public void onSlashCommandInteraction(SlashCommandInteractionEvent event) {
+        if (!SLASH_COMMAND.equals(event.getName())) {
+            return;
+        }
+        // DB 를 거치지 않는 응답은 바로 처리
+        if (event.getChannelType() != ChannelType.TEXT) {
+            event.reply("웬디는 서버의 텍스트 채널에서만 사용할 수 있어요!").setEphemeral(true).queue();
+            return;
+        }
+        if ("help".equals(event.getSubcommandName())) {
+            event.reply(HELP_MESSAGE).setEphemeral(true).queue();
+            return;
+        }
+
+        event.deferReply(true).queue();
+        if (!fairScheduler.submit(fairKey(event.getGuild(), event.getChannel().getId()), event.getChannel().getId(),
+                () -> handleSlashCommand(event))) {
+            event.getHook().editOriginal(BUSY_MESSAGE).queue();
+        }
+    }
+
+    private void handleSlashCommand(SlashCommandInteractionEvent event) {
+        TextChannel channel = event.getChannel().asTextChannel();
+        String subcommand = event.getSubcommandName();
+        if ("start".equals(subcommand)) {
+            event.getHook().editOriginal("웬디를 시작할게요!").queue();
+            handleStart(channel);
+            return;
+        }
+
+        if (!wendyService.isSessionActive(channel.getId())) {
+            event.getHook().editOriginal("진행 중인 일정 조율이 없어요. **/wendy start** 로 시작해 주세요!").queue();
+            return;
+        }
+        if ("revote".equals(subcommand)) {
+            event.getHook().editOriginal("재투표를 준비할게요!").queue();
+            handleRevote(channel);
+        } else if ("end".equals(subcommand)) {
+            event.getHook().editOriginal("웬디를 종료할게요!").queue();
+            handleEnd(channel);
+        } else {
+            event.getHook().editOriginal("알 수 없는 명령이에요. **/wendy help** 를 확인해 주세요!").queue();
+        }
     }
 
     @Override
     public void onGuildJoin(net.dv8tion.jda.api.events.guild.GuildJoinEvent event) {
         TextChannel defaultChannel = event.getGuild().getDefaultChannel().asTextChannel();
         if (defaultChannel != null) {
-            defaultChannel.sendMessage("""
+            outbound.send(defaultChannel, """
                 안녕하세요! 일정 조율 도우미 웬디가 서버에 합류했어요 :D
-                일정을 조율하려면 채팅에 **'웬디 시작'** 이라고 입력해 주세요!
-                """).queue();
+                일정을 조율하려면 **/wendy start** 를 입력해 주세요!
+                """);
         }
     }
 
     @Override
     public void onMessageReceived(MessageReceivedEvent event) {
+        if (!messageCommandsEnabled) return;
+        // 명령이 아닌 메시지는 큐에 넣지 않음 (일반 대화가 길드 큐 한도를 차지하지 않도록)
         if (event.getAuthor().isBot()) return;
-        
+        if (!event.isFromType(ChannelType.TEXT)) return;
+
         String content = event.getMessage().getContentRaw().trim();
+        if (!MESSAGE_COMMANDS.contains(content)) return;
+
+        if (!fairScheduler.submit(fairKey(event.getGuild(), event.getChannel().getId()), event.getChannel().getId(),
+                () -> handleMessage(event, content))) {
+            System.err.println("[Command] Message command rejected (guild queue full): " + event.getChannel().getId());
+        }
+    }
+
+    private void handleMessage(MessageReceivedEvent event, String content) {
         TextChannel channel = event.getChannel().asTextChannel();
         String channelId = channel.getId();
-        Member member = event.getMember();
         
         // 1.1 웬디 시작
         if (content.equals("웬디 시작")) {
@@ -75,15 +184,6 @@ public class WendyCommand extends ListenerAdapter {
             return;
         }
         
-//        // 2.1~2.2 날짜 범위 입력
-//        if (waitingForDateInput.getOrDefault(channelId, false)) {
-//            Integer weeks = extractWeeks(content);
-//            if (weeks != null) {
-//                handleDateInput(channel, member, weeks, false);
-//                return;
-//            }
-//        }
-        
         // 4.2 재투표
         if (content.equals("웬디 재투표")) {
             handleRevote(channel);
@@ -102,19 +202,52 @@ public class WendyCommand extends ListenerAdapter {
         if (!ATTENDEE_SELECT_MENU_ID.equals(event.getComponentId())) {
             return;
         }
+        event.deferEdit().queue();
+        if (!fairScheduler.submit(fairKey(event.getGuild(), event.getChannel().getId()), event.getChannel().getId(),
+                () -> handleAttendeeSelect(event))) {
+            event.getHook().sendMessage(BUSY_MESSAGE).setEphemeral(true).queue();
+        }
+    }
 
+    private void handleAttendeeSelect(EntitySelectInteractionEvent event) {
         String channelId = event.getChannel().getId();
         if (!wendyService.isSessionActive(channelId)) {
             return;
         }
 
-        event.getMentions().getMembers().forEach(member -> {
-            wendyService.addParticipant(channelId, member.getId(), member.getEffectiveName());
-            System.out.println("[Command] Participant added via select menu: " + member.getEffectiveName());
-        });
+        // 선택한 유저의 멤버 정보는 보통 payload 에 함께 오지만, 없으면 그때만 REST 로 조회 (멤버 캐시는 LRU 로 제한)
+        Set<String> resolvedIds = new HashSet<>();
+        for (Member member : event.getMentions().getMembers()) {
+            resolvedIds.add(member.getId());
+            addParticipant(channelId, member.getId(), member.getEffectiveName());
+        }
+        for (User user : event.getMentions().getUsers()) {
+            if (!resolvedIds.contains(user.getId())) {
+                addParticipant(channelId, user.getId(), retrieveDisplayName(event.getGuild(), user));
+            }
+        }
+
+        event.getHook().sendMessage("참석자 명단이 업데이트됐어요!").setEphemeral(true).queue();
 
-        event.reply("참석자 명단이 업데이트됐어요!").setEphemeral(true).queue();
+    }
+
+    private void addParticipant(String channelId, String memberId, String displayName) {
+        wendyService.addParticipant(channelId, memberId, displayName);
+        System.out.println("[Command] Participant added via select menu: " + displayName);
+    }
 
+    // 길드 작업 큐(가상 스레드) 안에서 호출되므로 complete() 로 기다려 채널 내 처리 순서를 유지
+    private String retrieveDisplayName(Guild guild, User user) {
+        if (guild == null) {
+            return user.getEffectiveName();
+        }
+        try {
+            return guild.retrieveMember(user).complete().getEffectiveName();
+        } catch (ErrorResponseException e) {
+            // 서버를 떠난 유저 등: 전역 표시 이름으로 대신함
+            System.err.println("[Command] Failed to retrieve member " + user.getId() + ": " + e.getMeaning());
+            return user.getEffectiveName();
+        }
     }
 
     @Override
@@ -123,7 +256,16 @@ public class WendyCommand extends ListenerAdapter {
         if (!WEEK_SELECT_MENU_ID.equals(componentId) && !WEEK_SELECT_MENU_REVOTE_ID.equals(componentId)) {
             return;
         }
+        // 투표 생성(DB 쓰기)까지 끝난 뒤에 응답하므로 반드시 먼저 defer
+        event.deferEdit().queue();
+        if (!fairScheduler.submit(fairKey(event.getGuild(), event.getChannel().getId()), event.getChannel().getId(),
+                () -> handleWeekSelect(event))) {
+            event.getHook().sendMessage(BUSY_MESSAGE).setEphemeral(true).queue();
+        }
+    }
 
+    private void handleWeekSelect(StringSelectInteractionEvent event) {
+        String componentId = event.getComponentId();
         String channelId = event.getChannel().getId();
         if (!wendyService.isSessionActive(channelId)) {
             return;
@@ -135,20 +277,20 @@ public class WendyCommand extends ListenerAdapter {
         try {
             weeks = Integer.parseInt(value);
         } catch (NumberFormatException e) {
-            event.reply("선택한 값이 올바르지 않아요. 다시 시도해주세요!").setEphemeral(true).queue();
+            event.getHook().sendMessage("선택한 값이 올바르지 않아요. 다시 시도해주세요!").setEphemeral(true).queue();
             return;
         }
 
         TextChannel channel = event.getChannel().asTextChannel();
         Member member = event.getMember();
         if (member == null) {
-            event.reply("사용자 정보를 가져올 수 없어요. 다시 시도해주세요!").setEphemeral(true).queue();
+            event.getHook().sendMessage("사용자 정보를 가져올 수 없어요. 다시 시도해주세요!").setEphemeral(true).queue();
             return;
         }
 
         boolean isRevote = WEEK_SELECT_MENU_REVOTE_ID.equals(componentId);
         handleDateInput(channel, member, weeks, isRevote);
-        event.reply("투표 날짜 범위를 선택하셨어요!").setEphemeral(true).queue();
+        event.getHook().sendMessage("투표 날짜 범위를 선택하셨어요!").setEphemeral(true).queue();
     }
 
 //    @Override
@@ -177,14 +319,13 @@ public class WendyCommand extends ListenerAdapter {
     
     private void handleStart(TextChannel channel) {
         String channelId = channel.getId();
-        List<Member> members = channel.getMembers();
         
-        wendyService.startSession(channelId, members);
+        wendyService.startSession(channelId, shardAssignment.shardOf(channel.getGuild().getIdLong()));
         
-        channel.sendMessage("""
+        outbound.send(channel, """
             안녕하세요! 일정 조율 도우미 웬디에요 :D
             지금부터 여러분의 일정 조율을 도와드릴게요
-            """).queue();
+            """);
 
 
         // 참석자 입력용 엔티티 셀렉트 메뉴 (유저 선택 드롭다운)
@@ -193,9 +334,10 @@ public class WendyCommand extends ListenerAdapter {
                 .setRequiredRange(1, 25)
                 .build();
 
-        channel.sendMessage("인원 파악을 위해 참석자분들을 알려주세요!\n원하는 참석자들을 아래 드롭다운에서 선택해주세요.")
+        outbound.send(channel, new MessageCreateBuilder()
+                .setContent("인원 파악을 위해 참석자분들을 알려주세요!\n원하는 참석자들을 아래 드롭다운에서 선택해주세요.")
                 .setActionRow(attendeeMenu)
-                .queue();
+                .build());
 
         // 2.1 날짜 범위 파악 질문 (드롭다운 방식)
         StringSelectMenu weekMenu = StringSelectMenu.create(WEEK_SELECT_MENU_ID)
@@ -209,9 +351,10 @@ public class WendyCommand extends ListenerAdapter {
                 .addOption("6주 뒤", "6")
                 .build();
 
-        channel.sendMessage("몇 주 뒤의 일정을 계획하시나요? :D")
+        outbound.send(channel, new MessageCreateBuilder()
+                .setContent("몇 주 뒤의 일정을 계획하시나요? :D")
                 .setActionRow(weekMenu)
-                .queue();
+                .build());
     }
     
     private void handleDateInput(TextChannel channel, Member member, int weeks, boolean isRevote) {
@@ -219,18 +362,16 @@ public class WendyCommand extends ListenerAdapter {
         String userMention = member.getAsMention();
         String channelName = channel.getName();
         
-        waitingForDateInput.put(channelId, false);
-        
-        channel.sendMessage(userMention + " 님이 " + weeks + "주 뒤를 선택하셨어요!").queue();
-        channel.sendMessage("해당 일정의 투표를 만들어드릴게요 :D").queue();
-        channel.sendMessage("(투표 늦게 하는 사람 대머리🧑‍🦲)").queue();
-        channel.sendMessage("투표를 생성 중입니다🛜").queue();
+        outbound.send(channel, userMention + " 님이 " + weeks + "주 뒤를 선택하셨어요!");
+        outbound.send(channel, "해당 일정의 투표를 만들어드릴게요 :D");
+        outbound.send(channel, "(투표 늦게 하는 사람 대머리🧑‍🦲)");
+        outbound.send(channel, "투표를 생성 중입니다🛜");
         
         String voteUrl = isRevote 
             ? wendyService.recreateVote(channelId, channelName, weeks)
             : wendyService.createVote(channelId, channelName, weeks);
         
-        channel.sendMessage(voteUrl).queue();
+        outbound.send(channel, voteUrl);
         wendyScheduler.startSchedule(channel);
 
 
@@ -255,7 +396,7 @@ public class WendyCommand extends ListenerAdapter {
         String channelId = channel.getId();
         
         if (!wendyService.hasPreviousVote(channelId)) {
-            channel.sendMessage("아직 진행된 투표가 없어요🗑️").queue();
+            outbound.send(channel, "아직 진행된 투표가 없어요🗑️");
             return;
         }
         
@@ -273,9 +414,10 @@ public class WendyCommand extends ListenerAdapter {
                 .addOption("6주 뒤", "6")
                 .build();
 
-        channel.sendMessage("몇 주 뒤의 일정을 계획하시나요? :D")
+        outbound.send(channel, new MessageCreateBuilder()
+                .setContent("몇 주 뒤의 일정을 계획하시나요? :D")
                 .setActionRow(weekMenu)
-                .queue();
+                .build());
     }
     
     private void handleEnd(TextChannel channel) {
@@ -284,35 +426,19 @@ public class WendyCommand extends ListenerAdapter {
         wendyScheduler.stopSchedule(channelId);
         wendyService.endSession(channelId);
         
-        participantCheckMessages.remove(channelId);
-        waitingForDateInput.remove(channelId);
-        
-        channel.sendMessage("""
+        outbound.send(channel, """
             웬디는 여기서 눈치껏 빠질게요 :D
             모두 알찬 시간 보내세요!
-            """).queue();
+            """);
         System.out.println("[Command] Session ended: " + channelId);
     }
     
     private void handleHelp(TextChannel channel) {
-        channel.sendMessage("""
-            웬디는 다음과 같은 기능이 있어요!
-            
-            **'웬디 시작'**: 일정 조율을 시작해요
-            **'웬디 종료'**: 작동을 종료해요
-            **'웬디 재투표'**: 동일한 참석자로 투표를 다시 올려요
-            """).queue();
+        outbound.send(channel, HELP_MESSAGE);
     }
     
-    private Integer extractWeeks(String content) {
-        String numbers = content.replaceAll("[^0-9]", "");
-        if (numbers.isEmpty()) return null;
-        try {
-            int weeks = Integer.parseInt(numbers);
-            if (weeks < 1 || weeks > 12) return null;
-            return weeks;
-        } catch (NumberFormatException e) {
-            return null;
-        }
+    // 길드 밖(DM 등)에서 온 이벤트는 채널 단위로 줄을 세움
+    private static String fairKey(Guild guild, String channelId) {
+        return guild != null ? guild.getId() : "channel:" + channelId;
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.workingdead.chatbot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.BatchSize;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 디스코드 채널별 웬디 세션 스냅샷
+ * WendyServiceImpl 의 인메모리 상태를 write-through 로 저장하고, 재시작 후 채널별로 지연 복원
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "bot_channel_session",
+       indexes = @Index(name = "idx_bot_channel_session_shard_updated_at", columnList = "shard_id, updated_at"))
+public class BotChannelSession {
+
+    @Id
+    @Column(name = "channel_id", length = 32)
+    private String channelId;
+
+    // 채널이 속한 길드의 디스코드 샤드 (ShardAssignment 참고)
+    @Column(name = "shard_id", nullable = false)
+    private int shardId;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    // 디스코드 참석자 (discordUserId -> displayName), 여러 채널을 한 번에 복원할 때 IN 으로 묶어 조회
+    @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = 100)
+    @CollectionTable(name = "bot_channel_participant", joinColumns = @JoinColumn(name = "channel_id"))
+    @MapKeyColumn(name = "discord_user_id", length = 32)
+    @Column(name = "display_name", nullable = false)
+    @Builder.Default
+    private Map<String, String> participants = new HashMap<>();
+
+    @Column(name = "vote_id")
+    private Long voteId;
+
+    @Column(name = "share_url", length = 512)
+    private String shareUrl;
+
+    @Column(name = "has_vote", nullable = false)
+    private boolean hasVote;
+
+    @Column(name = "vote_created_at")
+    private LocalDateTime voteCreatedAt;
+
+    @Column(name = "vote_weeks")
+    private Integer voteWeeks;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
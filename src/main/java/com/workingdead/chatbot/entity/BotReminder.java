@@ -0,0 +1,47 @@
+package com.workingdead.chatbot.entity;
+
+import com.workingdead.chatbot.scheduler.ReminderKind;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "bot_reminder",
+       indexes = {
+           @Index(name = "idx_bot_reminder_shard_due_at", columnList = "shard_id, due_at"),
+           @Index(name = "idx_bot_reminder_channel_id", columnList = "channel_id")
+       })
+public class BotReminder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "channel_id", nullable = false, length = 32)
+    private String channelId;
+
+    // 채널이 속한 길드의 디스코드 샤드 (ShardAssignment 참고)
+    @Column(name = "shard_id", nullable = false)
+    private int shardId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private ReminderKind kind;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    // 폴러가 가져간 시각 (발송을 마치면 row 삭제, claim-timeout 이 지나도 남아 있으면 다시 가져감)
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
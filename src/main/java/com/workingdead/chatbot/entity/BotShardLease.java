@@ -0,0 +1,30 @@
+package com.workingdead.chatbot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 디스코드 샤드 소유권 lease
+ * 갱신/획득은 BotShardLeaseRepository 의 upsert 로만 수행 (DB 시각 기준)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "bot_shard_lease")
+public class BotShardLease {
+
+    @Id
+    @Column(name = "shard_id")
+    private Integer shardId;
+
+    @Column(name = "owner_id", nullable = false, length = 128)
+    private String ownerId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,166 @@
+package com.workingdead.chatbot.event;
+
+import com.workingdead.chatbot.executor.BotExecutor;
+import com.workingdead.chatbot.gateway.DiscordGateway;
+import com.workingdead.chatbot.gateway.ShardAssignment;
+import com.workingdead.chatbot.service.VoteStatusShareDebouncer;
+import com.workingdead.chatbot.service.WendyService;
+import jakarta.annotation.PreDestroy;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 투표 변경 이벤트 버스 (Redis pub/sub)
+ * 제출을 받은 노드는 vote-changed 만 발행하고, 모든 노드가 구독하되 해당 채널의 샤드를 가진 노드만 현황 공유를 요청
+ * 발행이 실패하거나 구독자가 없으면 이 노드에서 바로 처리 (단일 노드/Redis 장애 시에도 동작)
+ * 담당 여부는 이벤트의 channelId 로 JDA 캐시와 lease 만 보고 판단 (다른 샤드의 이벤트는 DB 를 건드리지 않고 버림)
+ * 투표별로 마지막으로 처리한 version 이하의 이벤트(중복/늦게 도착한 이벤트)도 버림
+ */
+@Component
+public class VoteChangeBus {
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final WendyService wendyService;
+    private final DiscordGateway discordGateway;
+    private final ShardAssignment shardAssignment;
+    private final VoteStatusShareDebouncer shareDebouncer;
+    private final BotExecutor botExecutor;
+    private final String topic;
+
+    // voteId -> 마지막으로 처리한 version (접근 순 LRU, this 로 동기화)
+    private final Map<Long, Long> handledVersions;
+
+    private volatile Disposable subscription;
+
+    public VoteChangeBus(ReactiveStringRedisTemplate redisTemplate,
+                         WendyService wendyService,
+                         DiscordGateway discordGateway,
+                         ShardAssignment shardAssignment,
+                         VoteStatusShareDebouncer shareDebouncer,
+                         BotExecutor botExecutor,
+                         @Value("${wendy.vote-events.topic:wendy:vote-changed}") String topic,
+                         @Value("${wendy.vote-events.dedup-size:10000}") int dedupSize) {
+        this.redisTemplate = redisTemplate;
+        this.wendyService = wendyService;
+        this.discordGateway = discordGateway;
+        this.shardAssignment = shardAssignment;
+        this.shareDebouncer = shareDebouncer;
+        this.botExecutor = botExecutor;
+        this.topic = topic;
+        this.handledVersions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > dedupSize;
+            }
+        };
+    }
+
+    public void publish(VoteChangedEvent event) {
+        redisTemplate.convertAndSend(topic, event.encode())
+                .subscribe(
+                        receivers -> {
+                            if (receivers == 0) {
+                                handleLocally(event);
+                            }
+                        },
+                        error -> {
+                            System.err.println("[When:D] Failed to publish vote change, handle locally: " + error.getMessage());
+                            handleLocally(event);
+                        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        subscription = redisTemplate.listenToChannel(topic)
+                .map(ReactiveSubscription.Message::getMessage)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> System.err.println(
+                                "[When:D] Vote change subscription failed, retrying: " + signal.failure().getMessage())))
+                .subscribe(message -> {
+                    VoteChangedEvent event = VoteChangedEvent.decode(message);
+                    if (event != null) {
+                        handleLocally(event);
+                    }
+                });
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    // 담당 여부/중복은 메모리만 보고 거른 뒤, 세션 확인(DB 접근 가능)은 Redis 이벤트 루프가 아닌 BotExecutor 에서 처리
+    private void handleLocally(VoteChangedEvent event) {
+        TextChannel channel = null;
+        if (event.channelId() != null) {
+            channel = ownedChannel(event.channelId());
+            if (channel == null) {
+                return;
+            }
+        }
+        if (!markHandled(event)) {
+            return;
+        }
+
+        TextChannel target = channel;
+        botExecutor.execute(() -> botExecutor.runWithDbPermit(() -> requestShare(event, target)));
+    }
+
+    // 이 노드가 연결한(lease 를 가진) 샤드의 채널이면 반환 (JDA 캐시 조회라 DB 접근 없음)
+    private TextChannel ownedChannel(String channelId) {
+        TextChannel channel = discordGateway.getTextChannelById(channelId);
+        if (channel == null) {
+            return null;
+        }
+        int shardId = shardAssignment.shardOf(channel.getGuild().getIdLong());
+        return shardAssignment.owns(shardId) ? channel : null;
+    }
+
+    // 처음 보는 (더 새) version 이면 기록하고 true
+    private synchronized boolean markHandled(VoteChangedEvent event) {
+        Long handled = handledVersions.get(event.voteId());
+        if (handled != null && handled >= event.version()) {
+            return false;
+        }
+        handledVersions.put(event.voteId(), event.version());
+        return true;
+    }
+
+    private void requestShare(VoteChangedEvent event, TextChannel channel) {
+        if (channel == null) {
+            // channelId 가 없는 이전 형식: 투표로 채널을 찾음 (이 노드가 담당하지 않는 샤드의 채널이면 null)
+            String channelId = wendyService.getChannelIdByVoteId(event.voteId());
+            if (channelId == null || channelId.isBlank()) {
+                return;
+            }
+            channel = discordGateway.getTextChannelById(channelId);
+            if (channel == null) {
+                return;
+            }
+        } else if (!Long.valueOf(event.voteId()).equals(wendyService.getVoteId(channel.getId()))) {
+            // 채널에서 재투표 등으로 다른 투표가 진행 중이면 공유하지 않음
+            return;
+        }
+        if (!discordGateway.isReady()) {
+            System.out.println("[When:D] Discord bot not ready, skip status share (voteId=" + event.voteId() + ")");
+            return;
+        }
+        // 연속 제출이면 디바운스로 최신 상태를 한 번만 공유
+        shareDebouncer.requestShare(channel);
+    }
+}
@@ -0,0 +1,31 @@
+package com.workingdead.chatbot.event;
+
+/**
+ * 투표 결과 변경 알림 (Redis pub/sub 메시지 "voteId:version:channelId")
+ * version 은 vote_progress.result_version
+ * channelId 는 투표를 만든 디스코드 채널 (웹에서 만든 투표 등 없으면 null)
+ * → 구독 노드가 DB 조회 없이 자기 샤드의 채널인지 먼저 걸러냄
+ */
+public record VoteChangedEvent(long voteId, long version, String channelId) {
+
+    public String encode() {
+        return voteId + ":" + version + (channelId != null ? ":" + channelId : "");
+    }
+
+    // 형식이 맞지 않으면 null (channelId 가 없는 이전 형식 "voteId:version" 도 받음)
+    public static VoteChangedEvent decode(String message) {
+        if (message == null) {
+            return null;
+        }
+        String[] parts = message.split(":", 3);
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            String channelId = parts.length == 3 && !parts[2].isBlank() ? parts[2] : null;
+            return new VoteChangedEvent(Long.parseLong(parts[0]), Long.parseLong(parts[1]), channelId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.workingdead.chatbot.executor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 봇 작업 실행기 (JDA 이벤트 처리, 알림/현황 공유 콜백)
+ * - 기본값은 작업마다 가상 스레드: 느린 쿼리 하나가 다른 길드의 이벤트 처리를 막지 않음
+ * - DB 를 쓰는 구간은 db-permits 개까지만 동시에 실행해 Hikari 풀(웹 요청과 공유)을 다 쓰지 않게 함
+ */
+@Component
+public class BotExecutor {
+
+    private final ExecutorService executor;
+    private final Semaphore dbPermits;
+
+    public BotExecutor(MeterRegistry meterRegistry,
+                       @Value("${wendy.executor.virtual-threads:true}") boolean virtualThreads,
+                       @Value("${wendy.executor.platform-threads:8}") int platformThreads,
+                       @Value("${wendy.executor.db-permits:6}") int dbPermits) {
+        if (virtualThreads) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("wendy-bot-", 0).factory());
+        } else {
+            AtomicInteger sequence = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(platformThreads, r -> {
+                Thread thread = new Thread(r, "wendy-bot-" + sequence.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        this.dbPermits = new Semaphore(dbPermits, true);
+
+        Gauge.builder("wendy.bot.db.permits.available", this.dbPermits, Semaphore::availablePermits)
+                .description("봇 작업에 남은 DB 동시 실행 허용 수")
+                .register(meterRegistry);
+        Gauge.builder("wendy.bot.db.permits.waiting", this.dbPermits, Semaphore::getQueueLength)
+                .description("DB 동시 실행 허용을 기다리는 봇 작업 수")
+                .register(meterRegistry);
+    }
+
+    // JDA 이벤트 풀 등 실행기 자체가 필요한 곳에 전달 (종료는 이 컴포넌트가 담당)
+    public ExecutorService executor() {
+        return executor;
+    }
+
+    public void execute(Runnable task) {
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                System.err.println("[Wendy Bot] Task failed: " + e.getMessage());
+            }
+        });
+    }
+
+    public void runWithDbPermit(Runnable task) {
+        callWithDbPermit(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> T callWithDbPermit(Supplier<T> task) {
+        try {
+            dbPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a DB permit", e);
+        }
+        try {
+            return task.get();
+        } finally {
+            dbPermits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.workingdead.chatbot.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 길드 단위 공정 스케줄러 (명령 처리 / 알림·현황 공유)
+ * - 길드마다 대기 큐를 두고 weighted round-robin(deficit) 으로 꺼내 BotExecutor 에서 DB 허용을 받아 실행
+ * - 길드당 동시 실행은 max-concurrency-per-guild, 전체 동시 실행은 max-in-flight 로 제한
+ * - 같은 채널의 작업은 한 번에 하나씩, 넣은 순서대로 실행 (길드 안의 다른 채널 작업은 앞질러 갈 수 있음)
+ * - 길드 큐가 max-queued-per-guild 를 넘으면 새 작업은 버림 (한 길드가 도배해도 다른 길드의 지연은 그대로)
+ *   단, 알림/디바운스된 현황 공유처럼 다시 만들 수 없는 작업은 submitUncapped 로 한도 없이 넣음
+ * 길드별 가중치는 wendy.fair.weights (예: "{'123456789': 3}"), 없으면 1
+ */
+@Component
+public class GuildFairScheduler {
+
+    private final BotExecutor botExecutor;
+    private final int maxInFlight;
+    private final int maxConcurrencyPerGuild;
+    private final int maxQueuedPerGuild;
+    private final Map<String, Integer> weights;
+
+    // 아래 상태는 모두 this 로 동기화
+    private final Map<String, GuildQueue> queues = new HashMap<>();
+    private final Deque<GuildQueue> ring = new ArrayDeque<>();
+    private int inFlight;
+    private int queued;
+
+    private final Counter rejectedCounter;
+
+    public GuildFairScheduler(BotExecutor botExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${wendy.fair.max-in-flight:16}") int maxInFlight,
+                              @Value("${wendy.fair.max-concurrency-per-guild:2}") int maxConcurrencyPerGuild,
+                              @Value("${wendy.fair.max-queued-per-guild:50}") int maxQueuedPerGuild,
+                              @Value("#{${wendy.fair.weights:{:}}}") Map<String, Integer> weights) {
+        this.botExecutor = botExecutor;
+        this.maxInFlight = maxInFlight;
+        this.maxConcurrencyPerGuild = maxConcurrencyPerGuild;
+        this.maxQueuedPerGuild = maxQueuedPerGuild;
+        this.weights = Map.copyOf(weights);
+
+        Gauge.builder("wendy.fair.queued", this, GuildFairScheduler::getQueued)
+                .description("길드 큐에서 실행을 기다리는 봇 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("wendy.fair.in_flight", this, GuildFairScheduler::getInFlight)
+                .description("실행 중인 봇 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("wendy.fair.guilds", this, GuildFairScheduler::getActiveGuilds)
+                .description("대기/실행 중인 작업이 있는 길드 수")
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("wendy.fair.rejected");
+    }
+
+    // guildId 가 없는 작업(DM 등)은 호출 측에서 채널 id 등 대체 키를 넘김
+    // channelId 가 같은 작업끼리는 순서대로 하나씩 실행 (null 이면 순서 제약 없음)
+    public synchronized boolean submit(String guildId, String channelId, Runnable task) {
+        return enqueue(guildId, new Task(channelId, task), true);
+    }
+
+    /**
+     * 길드 큐 한도를 적용하지 않고 넣음 (순서/동시 실행 제한은 동일)
+     * 이미 저장소에서 가져간 알림, 디바운스로 합쳐진 현황 공유처럼 버리면 다시 만들 수 없는 작업용
+     * 양은 호출 측(알림 폴링 배치 크기, 채널당 공유 1건 등)이 제한함
+     */
+    public synchronized void submitUncapped(String guildId, String channelId, Runnable task) {
+        enqueue(guildId, new Task(channelId, task), false);
+    }
+
+    private boolean enqueue(String guildId, Task task, boolean capped) {
+        GuildQueue queue = queues.computeIfAbsent(guildId, id -> new GuildQueue(id, weights.getOrDefault(id, 1)));
+        if (capped && queue.pending.size() >= maxQueuedPerGuild) {
+            rejectedCounter.increment();
+            System.err.println("[Wendy Bot] Guild queue full, task dropped: " + guildId);
+            return false;
+        }
+
+        queue.pending.addLast(task);
+        queued++;
+        if (!queue.inRing && isReady(queue)) {
+            ring.addLast(queue);
+            queue.inRing = true;
+        }
+        dispatch();
+        return true;
+    }
+
+    // 종료 시: 대기/실행 중인 작업이 모두 끝날 때까지 최대 timeout 동안 기다림 (다 끝나면 true)
+    public boolean awaitIdle(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (getQueued() + getInFlight() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public synchronized int getQueued() {
+        return queued;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getActiveGuilds() {
+        return queues.size();
+    }
+
+    // ring 앞의 길드부터 한 작업씩 꺼내되, 크레딧(가중치)이 남은 길드는 앞자리를 유지
+    private void dispatch() {
+        while (inFlight < maxInFlight && !ring.isEmpty()) {
+            GuildQueue queue = ring.pollFirst();
+            if (queue.credit <= 0) {
+                queue.credit = queue.weight;
+            }
+
+            Task task = queue.pollRunnable();
+            if (task == null) {
+                queue.inRing = false;
+                continue;
+            }
+            queued--;
+            queue.credit--;
+            queue.running++;
+            if (task.channelId != null) {
+                queue.runningChannels.add(task.channelId);
+            }
+            inFlight++;
+            start(queue, task);
+
+            if (isReady(queue)) {
+                if (queue.credit > 0) {
+                    ring.addFirst(queue);
+                } else {
+                    ring.addLast(queue);
+                }
+            } else {
+                queue.inRing = false;
+            }
+        }
+    }
+
+    // 길드 동시 실행 한도가 남았고, 같은 채널 작업이 실행 중이지 않은 대기 작업이 있음
+    private boolean isReady(GuildQueue queue) {
+        return queue.running < maxConcurrencyPerGuild && queue.hasRunnable();
+    }
+
+    private void start(GuildQueue queue, Task task) {
+        botExecutor.execute(() -> {
+            try {
+                botExecutor.runWithDbPermit(task.body);
+            } finally {
+                complete(queue, task);
+            }
+        });
+    }
+
+    private synchronized void complete(GuildQueue queue, Task task) {
+        queue.running--;
+        if (task.channelId != null) {
+            queue.runningChannels.remove(task.channelId);
+        }
+        inFlight--;
+        if (!queue.pending.isEmpty()) {
+            if (!queue.inRing && isReady(queue)) {
+                ring.addLast(queue);
+                queue.inRing = true;
+            }
+        } else if (queue.running == 0) {
+            queues.remove(queue.guildId);
+        }
+        dispatch();
+    }
+
+    private static final class GuildQueue {
+        private final String guildId;
+        private final int weight;
+        private final Deque<Task> pending = new ArrayDeque<>();
+        private final Set<String> runningChannels = new HashSet<>();
+        private int running;
+        private int credit;
+        private boolean inRing;
+
+        GuildQueue(String guildId, int weight) {
+            this.guildId = guildId;
+            this.weight = Math.max(weight, 1);
+        }
+
+        // 앞에서부터 같은 채널 작업이 실행 중이지 않은 첫 작업 (채널 안에서는 항상 가장 오래된 작업이 먼저 나감)
+        private Task pollRunnable() {
+            Iterator<Task> iterator = pending.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                if (task.channelId == null || !runningChannels.contains(task.channelId)) {
+                    iterator.remove();
+                    return task;
+                }
+            }
+            return null;
+        }
+
+        private boolean hasRunnable() {
+            if (runningChannels.isEmpty()) {
+                return !pending.isEmpty();
+            }
+            for (Task task : pending) {
+                if (task.channelId == null || !runningChannels.contains(task.channelId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Task(String channelId, Runnable body) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.workingdead.chatbot.gateway;
+
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import net.dv8tion.jda.api.events.session.ReadyEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 디스코드 게이트웨이 연결 핸들 (이 노드가 담당하는 샤드들)
+ * ShardManager 는 스프링 컨텍스트 준비 이후 비동기로 붙으므로, 연결 전/끊김 상태에서는 조회 결과가 null
+ */
+@Component
+public class DiscordGateway extends ListenerAdapter {
+
+    private final AtomicReference<ShardManager> shardManager = new AtomicReference<>();
+
+    public void attach(ShardManager connecting) {
+        shardManager.set(connecting);
+    }
+
+    public ShardManager detach() {
+        return shardManager.getAndSet(null);
+    }
+
+    public ShardManager current() {
+        return shardManager.get();
+    }
+
+    // 담당 샤드가 모두 연결됐을 때 준비 완료
+    public boolean isReady() {
+        ShardManager current = shardManager.get();
+        return current != null
+                && !current.getShards().isEmpty()
+                && current.getShards().stream().allMatch(shard -> shard.getStatus() == JDA.Status.CONNECTED);
+    }
+
+    // shardId -> 연결 상태
+    public Map<Integer, String> getShardStatuses() {
+        Map<Integer, String> statuses = new TreeMap<>();
+        ShardManager current = shardManager.get();
+        if (current != null) {
+            current.getShards().forEach(shard -> statuses.put(shard.getShardInfo().getShardId(), shard.getStatus().name()));
+        }
+        return statuses;
+    }
+
+    public long getGuildCount() {
+        ShardManager current = shardManager.get();
+        return current != null ? current.getGuildCache().size() : 0;
+    }
+
+    // 연결 전이거나 이 노드의 샤드에 속하지 않은 채널이면 null
+    public TextChannel getTextChannelById(String channelId) {
+        ShardManager current = shardManager.get();
+        if (current == null) {
+            return null;
+        }
+        return current.getTextChannelById(channelId);
+    }
+
+    @Override
+    public void onReady(ReadyEvent event) {
+        System.out.println("[Wendy Bot] Shard " + event.getJDA().getShardInfo().getShardString()
+                + " started! Server count: " + event.getJDA().getGuilds().size());
+    }
+}
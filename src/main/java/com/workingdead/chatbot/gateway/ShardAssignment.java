@@ -0,0 +1,68 @@
+package com.workingdead.chatbot.gateway;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 이 노드가 담당할 수 있는 디스코드 샤드 범위와, 그중 실제로 lease 를 보유한 샤드
+ * 샤드 번호는 디스코드 규칙 (guildId >> 22) % total 로 정해지며,
+ * discord.shards.min ~ max 는 lease 후보 범위 (같은 범위를 여러 노드에 주면 한 노드만 연결하고 나머지는 대기)
+ */
+@Component
+public class ShardAssignment {
+
+    private final int totalShards;
+    private final int minShard;
+    private final int maxShard;
+
+    // ShardLeaseManager 가 갱신
+    private volatile Set<Integer> ownedShards = Set.of();
+
+    public ShardAssignment(@Value("${discord.shards.total:1}") int totalShards,
+                           @Value("${discord.shards.min:0}") int minShard,
+                           @Value("${discord.shards.max:-1}") int maxShard) {
+        if (totalShards < 1) {
+            throw new IllegalStateException("discord.shards.total must be >= 1");
+        }
+        int resolvedMax = maxShard < 0 ? totalShards - 1 : maxShard;
+        if (minShard < 0 || minShard > resolvedMax || resolvedMax >= totalShards) {
+            throw new IllegalStateException("invalid shard range " + minShard + ".." + resolvedMax
+                    + " (total=" + totalShards + ")");
+        }
+        this.totalShards = totalShards;
+        this.minShard = minShard;
+        this.maxShard = resolvedMax;
+    }
+
+    public int shardOf(long guildId) {
+        return (int) ((guildId >> 22) % totalShards);
+    }
+
+    // 현재 lease 를 보유한 샤드인지
+    public boolean owns(int shardId) {
+        return ownedShards.contains(shardId);
+    }
+
+    public Set<Integer> getOwnedShards() {
+        return ownedShards;
+    }
+
+    public void updateOwnedShards(Collection<Integer> shardIds) {
+        this.ownedShards = Set.copyOf(shardIds);
+    }
+
+    public int getTotalShards() {
+        return totalShards;
+    }
+
+    public int getMinShard() {
+        return minShard;
+    }
+
+    public int getMaxShard() {
+        return maxShard;
+    }
+}
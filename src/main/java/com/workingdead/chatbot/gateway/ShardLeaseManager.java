@@ -0,0 +1,187 @@
+package com.workingdead.chatbot.gateway;
+
+import com.workingdead.chatbot.repository.BotShardLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 샤드 단위 소유권 lease (bot_shard_lease)
+ * 담당 후보 샤드(discord.shards.min~max)마다 lease 를 획득/갱신하고, 보유한 샤드만 게이트웨이에 연결
+ * 같은 범위를 맡은 노드가 여럿이면 한 노드만 연결하고 나머지는 대기하다가, 소유 노드가 죽으면 ttl 안에 넘겨받음
+ * 갱신을 못 하면(DB 장애 등) DB 의 lease 가 만료되기 전에 (ttl - safety-margin, 다음 갱신까지 버틸 수 없으면) 스스로 내려놓음
+ * → 대기 노드가 만료된 lease 를 가져가는 시점에는 이미 연결을 끊은 상태
+ * 갱신은 전용 스레드에서 돌고 (공용 @Scheduled 스레드가 밀려도 영향 없음), DB 호출은 lease-timeout-ms 안에 끝나지 않으면 실패로 봄
+ */
+@Component
+public class ShardLeaseManager {
+
+    private final BotShardLeaseRepository leaseRepository;
+    private final ShardAssignment shardAssignment;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long ttlMillis;
+    private final long renewIntervalMillis;
+    private final long callTimeoutMillis;
+    // 갱신을 못 했을 때 lease 를 내려놓는 시점 = 마지막 갱신 시작 + ttl - safety-margin - renew-interval
+    // (다음 갱신 시도까지 기다리면 만료를 넘길 수 있으면 지금 내려놓음)
+    private final long holdMillis;
+    private final String ownerId;
+
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "wendy-shard-lease");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // DB 호출 전용 (갱신 스레드는 callTimeoutMillis 이상 묶이지 않음), 이전 호출이 아직 안 끝났으면 새로 보내지 않음
+    private final ExecutorService leaseCalls = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "wendy-shard-lease-db");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<Integer> pendingCall;
+
+    // shardId -> 마지막으로 갱신에 성공한 호출의 시작 시각 (DB 의 만료 시각은 이보다 늦음)
+    private final Map<Integer, Long> renewedAt = new HashMap<>();
+    private volatile boolean active;
+
+    public ShardLeaseManager(BotShardLeaseRepository leaseRepository,
+                             ShardAssignment shardAssignment,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${discord.shards.lease.ttl-ms:10000}") long ttlMillis,
+                             @Value("${discord.shards.lease.renew-interval-ms:3000}") long renewIntervalMillis,
+                             @Value("${discord.shards.lease.safety-margin-ms:2000}") long safetyMarginMillis,
+                             @Value("${discord.shards.lease.call-timeout-ms:1000}") long callTimeoutMillis) {
+        if (renewIntervalMillis + safetyMarginMillis + callTimeoutMillis >= ttlMillis) {
+            throw new IllegalStateException("discord.shards.lease: renew-interval-ms + safety-margin-ms"
+                    + " + call-timeout-ms must be < ttl-ms");
+        }
+        this.leaseRepository = leaseRepository;
+        this.shardAssignment = shardAssignment;
+        this.eventPublisher = eventPublisher;
+        this.ttlMillis = ttlMillis;
+        this.renewIntervalMillis = renewIntervalMillis;
+        this.callTimeoutMillis = callTimeoutMillis;
+        this.holdMillis = ttlMillis - safetyMarginMillis - renewIntervalMillis;
+        this.ownerId = resolveHostName() + ":" + UUID.randomUUID();
+    }
+
+    // 웹 기동이 끝난 뒤부터 lease 경쟁에 참여
+    @EventListener(ApplicationReadyEvent.class)
+    public void activate() {
+        active = true;
+        renewer.scheduleWithFixedDelay(this::renewSafely, 0, renewIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void renewSafely() {
+        try {
+            renew();
+        } catch (Exception e) {
+            System.err.println("[Wendy Bot] Shard lease renewal failed: " + e.getMessage());
+        }
+    }
+
+    public synchronized void renew() {
+        if (!active) {
+            return;
+        }
+
+        Set<Integer> acquired = new HashSet<>();
+        Set<Integer> lost = new HashSet<>();
+        boolean dbAvailable = true;
+        for (int shardId = shardAssignment.getMinShard(); shardId <= shardAssignment.getMaxShard(); shardId++) {
+            boolean held = renewedAt.containsKey(shardId);
+            long attemptStartedAt = System.currentTimeMillis();
+            // 한 샤드에서 DB 호출이 실패/시간 초과면 이번 주기의 나머지 샤드는 호출하지 않음 (만료 판단만)
+            Boolean granted = dbAvailable ? tryAcquire(shardId) : null;
+            if (granted == null) {
+                dbAvailable = false;
+            }
+
+            if (Boolean.TRUE.equals(granted)) {
+                renewedAt.put(shardId, attemptStartedAt);
+                if (!held) {
+                    acquired.add(shardId);
+                }
+            } else if (held && (granted != null || System.currentTimeMillis() - renewedAt.get(shardId) >= holdMillis)) {
+                // 다른 노드가 가져갔거나, DB 의 lease 가 만료되기 전에 갱신할 수 없음
+                renewedAt.remove(shardId);
+                lost.add(shardId);
+            }
+        }
+
+        if (!acquired.isEmpty() || !lost.isEmpty()) {
+            shardAssignment.updateOwnedShards(renewedAt.keySet());
+            System.out.println("[Wendy Bot] Shard lease changed: acquired=" + acquired + ", lost=" + lost
+                    + ", owned=" + renewedAt.keySet());
+            eventPublisher.publishEvent(new ShardOwnershipChangedEvent(Set.copyOf(acquired), Set.copyOf(lost)));
+        }
+    }
+
+    // 종료 시 바로 내려놓아 대기 노드가 ttl 을 기다리지 않고 넘겨받게 함
+    @PreDestroy
+    public synchronized void releaseAll() {
+        active = false;
+        renewer.shutdownNow();
+        leaseCalls.shutdownNow();
+        if (renewedAt.isEmpty()) {
+            return;
+        }
+        try {
+            leaseRepository.release(Set.copyOf(renewedAt.keySet()), ownerId);
+        } catch (Exception e) {
+            System.err.println("[Wendy Bot] Failed to release shard leases: " + e.getMessage());
+        }
+        renewedAt.clear();
+        shardAssignment.updateOwnedShards(Set.of());
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    // null: DB 오류/시간 초과로 판단 불가
+    private Boolean tryAcquire(int shardId) {
+        if (pendingCall != null && !pendingCall.isDone()) {
+            // 이전 호출이 아직 DB 에 묶여 있음 (커넥션 대기 등)
+            return null;
+        }
+        try {
+            pendingCall = leaseCalls.submit(() -> leaseRepository.tryAcquire(shardId, ownerId, ttlMillis / 1000.0));
+            return pendingCall.get(callTimeoutMillis, TimeUnit.MILLISECONDS) > 0;
+        } catch (TimeoutException e) {
+            System.err.println("[Wendy Bot] Lease renewal for shard " + shardId + " timed out after "
+                    + callTimeoutMillis + "ms");
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            System.err.println("[Wendy Bot] Failed to renew lease for shard " + shardId + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.workingdead.chatbot.gateway;
+
+import java.util.Set;
+
+/**
+ * 이 노드가 새로 lease 를 얻은 샤드 / 잃은 샤드 (ShardLeaseManager 가 발행)
+ */
+public record ShardOwnershipChangedEvent(Set<Integer> acquired, Set<Integer> lost) {
+}
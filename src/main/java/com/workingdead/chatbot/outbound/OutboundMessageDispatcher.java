@@ -0,0 +1,267 @@
+package com.workingdead.chatbot.outbound;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.channel.middleman.MessageChannel;
+import net.dv8tion.jda.api.utils.messages.MessageCreateData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 디스코드 발신 메시지 큐 (채널 단위)
+ * - merge-window 안에 같은 채널로 연달아 보낸 텍스트는 2000자 한도 안에서 한 메시지로 합쳐 발송
+ * - 채널 라우트(POST /channels/{id}/messages)별 토큰 버킷으로 JDA 에 넘기는 속도를 제한
+ * - 컴포넌트(셀렉트 메뉴 등)가 붙은 메시지는 합치지 않고, 앞선 텍스트와 순서만 유지
+ * 큐 깊이는 wendy.outbound.* 메트릭으로 노출
+ */
+@Component
+public class OutboundMessageDispatcher {
+
+    private static final int MAX_CONTENT_LENGTH = Message.MAX_CONTENT_LENGTH;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "wendy-outbound");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, ChannelOutbox> outboxes = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedMessages = new AtomicInteger();
+
+    private final long mergeWindowMillis;
+    private final int bucketCapacity;
+    private final long bucketPeriodMillis;
+
+    private final Counter sentCounter;
+    private final Counter mergedCounter;
+    private final Counter rateLimitedCounter;
+
+    public OutboundMessageDispatcher(MeterRegistry meterRegistry,
+                                     @Value("${wendy.outbound.merge-window-ms:300}") long mergeWindowMillis,
+                                     @Value("${wendy.outbound.bucket-capacity:5}") int bucketCapacity,
+                                     @Value("${wendy.outbound.bucket-period-ms:5000}") long bucketPeriodMillis) {
+        this.mergeWindowMillis = mergeWindowMillis;
+        this.bucketCapacity = bucketCapacity;
+        this.bucketPeriodMillis = bucketPeriodMillis;
+
+        Gauge.builder("wendy.outbound.queue.depth", queuedMessages, AtomicInteger::get)
+                .description("발송 대기 중인 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("wendy.outbound.channels", outboxes, Map::size)
+                .description("발송 큐를 가진 채널 수")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("wendy.outbound.sent");
+        this.mergedCounter = meterRegistry.counter("wendy.outbound.merged");
+        this.rateLimitedCounter = meterRegistry.counter("wendy.outbound.rate_limited");
+
+        executor.scheduleWithFixedDelay(this::evictIdleOutboxes, 1, 1, TimeUnit.MINUTES);
+    }
+
+    public void send(MessageChannel channel, String content) {
+        for (String chunk : split(content)) {
+            enqueue(channel, new Outgoing(chunk, null));
+        }
+    }
+
+    public void send(MessageChannel channel, MessageCreateData message) {
+        enqueue(channel, new Outgoing(null, message));
+    }
+
+    public int getQueueDepth() {
+        return queuedMessages.get();
+    }
+
+    /**
+     * 종료 시: merge-window 를 기다리지 않고 남은 메시지를 바로 발송 (채널별 토큰 버킷은 그대로 지킴)
+     * 최대 timeout 동안 기다리고, 그때까지 못 보낸 메시지 수를 반환
+     */
+    public int drain(Duration timeout) {
+        outboxes.values().forEach(outbox -> executor.execute(() -> flush(outbox)));
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (queuedMessages.get() > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return queuedMessages.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void enqueue(MessageChannel channel, Outgoing outgoing) {
+        queuedMessages.incrementAndGet();
+        outboxes.compute(channel.getId(), (id, outbox) -> {
+            ChannelOutbox box = outbox != null ? outbox : new ChannelOutbox(id);
+            if (box.add(channel, outgoing)) {
+                executor.schedule(() -> flush(box), mergeWindowMillis, TimeUnit.MILLISECONDS);
+            }
+            return box;
+        });
+    }
+
+    private void flush(ChannelOutbox outbox) {
+        try {
+            Batch batch = outbox.takeBatch(System.currentTimeMillis());
+            if (batch.waitMillis() > 0) {
+                rateLimitedCounter.increment();
+                executor.schedule(() -> flush(outbox), batch.waitMillis(), TimeUnit.MILLISECONDS);
+                return;
+            }
+            if (batch.message() == null) {
+                return;
+            }
+
+            queuedMessages.addAndGet(-batch.itemCount());
+            sentCounter.increment();
+            if (batch.itemCount() > 1) {
+                mergedCounter.increment(batch.itemCount() - 1);
+            }
+            batch.channel().sendMessage(batch.message()).queue(
+                    success -> {},
+                    error -> System.err.println("[Outbound] Failed to send message to " + outbox.channelId + ": " + error.getMessage())
+            );
+
+            if (batch.hasMore()) {
+                executor.execute(() -> flush(outbox));
+            }
+        } catch (Exception e) {
+            System.err.println("[Outbound] Flush failed for " + outbox.channelId + ": " + e.getMessage());
+        }
+    }
+
+    private void evictIdleOutboxes() {
+        long now = System.currentTimeMillis();
+        outboxes.keySet().forEach(channelId ->
+                outboxes.computeIfPresent(channelId, (id, outbox) -> outbox.isIdle(now) ? null : outbox));
+    }
+
+    // 2000자 초과 텍스트는 줄 단위(불가능하면 글자 단위)로 분할
+    static List<String> split(String content) {
+        List<String> chunks = new ArrayList<>();
+        String rest = content;
+        while (rest.length() > MAX_CONTENT_LENGTH) {
+            int cut = rest.lastIndexOf('\n', MAX_CONTENT_LENGTH);
+            if (cut <= 0) {
+                cut = MAX_CONTENT_LENGTH;
+            }
+            chunks.add(rest.substring(0, cut));
+            rest = rest.substring(cut).stripLeading();
+        }
+        if (!rest.isEmpty()) {
+            chunks.add(rest);
+        }
+        return chunks;
+    }
+
+    private record Outgoing(String text, MessageCreateData message) {
+        boolean mergeable() {
+            return message == null;
+        }
+    }
+
+    private record Batch(MessageChannel channel, MessageCreateData message, int itemCount,
+                         boolean hasMore, long waitMillis) {
+        static Batch empty() {
+            return new Batch(null, null, 0, false, 0);
+        }
+
+        static Batch waitFor(long millis) {
+            return new Batch(null, null, 0, true, millis);
+        }
+    }
+
+    private final class ChannelOutbox {
+        private final String channelId;
+        private final Deque<Outgoing> pending = new ArrayDeque<>();
+        private MessageChannel channel;
+        private boolean flushScheduled;
+
+        // 토큰 버킷 (bucketCapacity 개 / bucketPeriodMillis)
+        private double tokens = bucketCapacity;
+        private long lastRefillAt = System.currentTimeMillis();
+
+        ChannelOutbox(String channelId) {
+            this.channelId = channelId;
+        }
+
+        // 새로 flush 를 예약해야 하면 true
+        synchronized boolean add(MessageChannel channel, Outgoing outgoing) {
+            this.channel = channel;
+            pending.addLast(outgoing);
+            if (flushScheduled) {
+                return false;
+            }
+            flushScheduled = true;
+            return true;
+        }
+
+        synchronized Batch takeBatch(long now) {
+            if (pending.isEmpty()) {
+                flushScheduled = false;
+                return Batch.empty();
+            }
+
+            refill(now);
+            if (tokens < 1) {
+                double perToken = (double) bucketPeriodMillis / bucketCapacity;
+                return Batch.waitFor((long) Math.ceil((1 - tokens) * perToken));
+            }
+            tokens -= 1;
+
+            Outgoing head = pending.pollFirst();
+            MessageCreateData message;
+            int itemCount = 1;
+            if (head.mergeable()) {
+                StringBuilder sb = new StringBuilder(head.text());
+                while (!pending.isEmpty() && pending.peekFirst().mergeable()
+                        && sb.length() + 1 + pending.peekFirst().text().length() <= MAX_CONTENT_LENGTH) {
+                    sb.append('\n').append(pending.pollFirst().text());
+                    itemCount++;
+                }
+                message = MessageCreateData.fromContent(sb.toString());
+            } else {
+                message = head.message();
+            }
+
+            boolean hasMore = !pending.isEmpty();
+            if (!hasMore) {
+                flushScheduled = false;
+            }
+            return new Batch(channel, message, itemCount, hasMore, 0);
+        }
+
+        synchronized boolean isIdle(long now) {
+            refill(now);
+            return pending.isEmpty() && !flushScheduled && tokens >= bucketCapacity;
+        }
+
+        private void refill(long now) {
+            long elapsed = now - lastRefillAt;
+            if (elapsed > 0) {
+                tokens = Math.min(bucketCapacity, tokens + (double) elapsed * bucketCapacity / bucketPeriodMillis);
+                lastRefillAt = now;
+            }
+        }
+    }
+}
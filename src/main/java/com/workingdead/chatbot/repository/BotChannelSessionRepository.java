@@ -0,0 +1,21 @@
+package com.workingdead.chatbot.repository;
+
+import com.workingdead.chatbot.entity.BotChannelSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface BotChannelSessionRepository extends JpaRepository<BotChannelSession, String> {
+
+    // cutoff 이전에 마지막으로 저장된 스냅샷 삭제 (참석자는 ON DELETE CASCADE 로 함께 삭제)
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM bot_channel_session WHERE shard_id IN (:shardIds) AND updated_at < :cutoff",
+           nativeQuery = true)
+    int deleteStale(@Param("shardIds") Collection<Integer> shardIds, @Param("cutoff") LocalDateTime cutoff);
+}
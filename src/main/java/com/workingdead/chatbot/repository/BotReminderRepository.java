@@ -0,0 +1,43 @@
+package com.workingdead.chatbot.repository;
+
+import com.workingdead.chatbot.entity.BotReminder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BotReminderRepository extends JpaRepository<BotReminder, Long> {
+
+    // lease 를 보유한 샤드에서 발송 시점이 지난 알림 중 아직 가져가지 않았거나 claim 이 만료된 것을 잠그고 가져옴
+    // (다른 노드가 잠근 row 는 건너뜀)
+    @Query(value = "SELECT * FROM bot_reminder " +
+                   "WHERE shard_id IN (:shardIds) AND due_at <= :now " +
+                   "AND (claimed_at IS NULL OR claimed_at < :claimExpiredBefore) " +
+                   "ORDER BY due_at LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<BotReminder> lockDue(@Param("shardIds") Collection<Integer> shardIds,
+                              @Param("now") LocalDateTime now,
+                              @Param("claimExpiredBefore") LocalDateTime claimExpiredBefore,
+                              @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BotReminder r SET r.claimedAt = :claimedAt WHERE r.id IN :ids")
+    int markClaimed(@Param("ids") Collection<Long> ids, @Param("claimedAt") LocalDateTime claimedAt);
+
+    // 발송을 마친 알림 삭제 (그 사이 재예약/취소로 이미 지워졌으면 0)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BotReminder r WHERE r.id = :id")
+    int deleteClaimed(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BotReminder r WHERE r.channelId = :channelId")
+    void deleteByChannelId(@Param("channelId") String channelId);
+}
@@ -0,0 +1,36 @@
+package com.workingdead.chatbot.repository;
+
+import com.workingdead.chatbot.entity.BotShardLease;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+public interface BotShardLeaseRepository extends JpaRepository<BotShardLease, Integer> {
+
+    // 비어 있거나, 내 것이거나, 만료된 lease 면 내 것으로 갱신 (1: 획득/갱신, 0: 다른 노드가 보유 중)
+    // 커넥션을 받은 뒤 쿼리 자체가 막히는 경우 (락 대기 등) 대비 statement timeout
+    @Transactional(timeout = 2)
+    @Modifying
+    @QueryHints(@QueryHint(name = "jakarta.persistence.query.timeout", value = "1000"))
+    @Query(value = "INSERT INTO bot_shard_lease (shard_id, owner_id, expires_at) " +
+                   "VALUES (:shardId, :ownerId, LOCALTIMESTAMP + make_interval(secs => :ttlSeconds)) " +
+                   "ON CONFLICT (shard_id) DO UPDATE " +
+                   "SET owner_id = EXCLUDED.owner_id, expires_at = EXCLUDED.expires_at " +
+                   "WHERE bot_shard_lease.owner_id = EXCLUDED.owner_id " +
+                   "OR bot_shard_lease.expires_at < LOCALTIMESTAMP",
+           nativeQuery = true)
+    int tryAcquire(@Param("shardId") int shardId,
+                   @Param("ownerId") String ownerId,
+                   @Param("ttlSeconds") double ttlSeconds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM BotShardLease l WHERE l.shardId IN :shardIds AND l.ownerId = :ownerId")
+    int release(@Param("shardIds") Collection<Integer> shardIds, @Param("ownerId") String ownerId);
+}
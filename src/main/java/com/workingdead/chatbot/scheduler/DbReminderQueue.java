@@ -0,0 +1,136 @@
+package com.workingdead.chatbot.scheduler;
+
+import com.workingdead.chatbot.entity.BotReminder;
+import com.workingdead.chatbot.gateway.ShardAssignment;
+import com.workingdead.chatbot.repository.BotReminderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * bot_reminder 테이블 기반 알림 예약 (at-least-once)
+ * 폴러가 due 된 row 를 SKIP LOCKED 로 배치 단위로 잠가 claimed_at 을 찍고(커밋) 발송한 뒤, 발송을 마친 row 만 삭제
+ * 발송 전에 노드가 죽거나 발송에 실패한 row 는 claim-timeout 이 지나면 다른 폴러(또는 재시작한 노드)가 다시 가져감
+ * → 여러 노드가 동시에 폴링해도 같은 알림을 동시에 가져가지 않고, 재배포/장애에도 유실되지 않음
+ *   (발송 후 삭제 전에 죽으면 한 번 더 발송될 수 있음)
+ * 각 노드는 lease 를 보유한(= 게이트웨이에 연결한) 샤드의 알림만 가져감
+ */
+@Component
+@ConditionalOnProperty(name = "wendy.reminder.store", havingValue = "db", matchIfMissing = true)
+public class DbReminderQueue implements ReminderQueue {
+
+    private final BotReminderRepository reminderRepository;
+    private final ReminderDispatcher dispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardAssignment shardAssignment;
+    private final int batchSize;
+    private final Duration claimTimeout;
+
+    private volatile boolean polling = true;
+
+    // 폴링 한 회차 동안 잡고 있음 → handOff 가 진행 중인 회차(가져간 알림을 넘기는 중)가 끝날 때까지 기다림
+    private final Object pollLock = new Object();
+
+    public DbReminderQueue(BotReminderRepository reminderRepository,
+                           ReminderDispatcher dispatcher,
+                           TransactionTemplate transactionTemplate,
+                           ShardAssignment shardAssignment,
+                           @Value("${wendy.reminder.batch-size:100}") int batchSize,
+                           @Value("${wendy.reminder.claim-timeout:5m}") Duration claimTimeout) {
+        this.reminderRepository = reminderRepository;
+        this.dispatcher = dispatcher;
+        this.transactionTemplate = transactionTemplate;
+        this.shardAssignment = shardAssignment;
+        this.batchSize = batchSize;
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Override
+    @Transactional
+    public void schedule(String channelId, int shardId) {
+        reminderRepository.deleteByChannelId(channelId);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BotReminder> reminders = new ArrayList<>();
+        for (ReminderKind kind : ReminderKind.values()) {
+            reminders.add(BotReminder.builder()
+                    .channelId(channelId)
+                    .shardId(shardId)
+                    .kind(kind)
+                    .dueAt(now.plus(kind.getDelay()))
+                    .createdAt(now)
+                    .build());
+        }
+        reminderRepository.saveAll(reminders);
+    }
+
+    @Override
+    public void cancel(String channelId) {
+        reminderRepository.deleteByChannelId(channelId);
+    }
+
+    // 아직 가져가지 않은 알림은 테이블에 남아 있으므로 폴링만 멈추면 다음 인스턴스가 이어서 발송
+    // 이미 가져간 알림은 진행 중인 회차가 dispatcher 에 넘긴 뒤 반환 (이후 대기는 ReminderDispatcher.awaitPending)
+    // 종료 전까지 발송하지 못한 알림도 claim 이 만료되면 다음 인스턴스가 다시 가져감
+    @Override
+    public void handOff() {
+        polling = false;
+        synchronized (pollLock) {
+            System.out.println("[Scheduler] Reminder polling stopped, pending reminders stay in bot_reminder");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${wendy.reminder.poll-interval-ms:5000}")
+    public void pollDueReminders() {
+        synchronized (pollLock) {
+            if (!polling || shardAssignment.getOwnedShards().isEmpty()) {
+                return;
+            }
+
+            List<BotReminder> claimed;
+            do {
+                claimed = claimDue();
+                // 배치 단위로 넘겨 미투표자를 한 번에 조회, 발송은 길드별 공정 큐로 넘어가므로 폴러 스레드가 느린 조회에 묶이지 않음
+                if (!claimed.isEmpty()) {
+                    dispatcher.fireAll(claimed, this::acknowledge);
+                }
+            } while (polling && claimed.size() >= batchSize);
+        }
+    }
+
+    // 아직 가져가지 않았거나 claim 이 만료된 due row 를 잠그고 claimed_at 을 찍음
+    private List<BotReminder> claimDue() {
+        try {
+            List<BotReminder> claimed = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<BotReminder> due = reminderRepository.lockDue(
+                        shardAssignment.getOwnedShards(), now, now.minus(claimTimeout), batchSize);
+                if (!due.isEmpty()) {
+                    reminderRepository.markClaimed(due.stream().map(BotReminder::getId).toList(), now);
+                }
+                return due;
+            });
+            return claimed != null ? claimed : List.of();
+        } catch (Exception e) {
+            System.err.println("[Scheduler] Failed to claim reminders: " + e.getMessage());
+            return List.of();
+        }
+    }
+
+    // 발송을 마친(또는 보낼 대상이 없던) 알림 삭제, 실패하면 claim 만료 후 한 번 더 발송될 수 있음
+    private void acknowledge(BotReminder reminder) {
+        try {
+            reminderRepository.deleteClaimed(reminder.getId());
+        } catch (Exception e) {
+            System.err.println("[Scheduler] Failed to delete sent reminder " + reminder.getId() + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.workingdead.chatbot.scheduler;
+
+import com.workingdead.chatbot.entity.BotReminder;
+import com.workingdead.chatbot.repository.BotReminderRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 프로세스 내 해시 타이밍 휠 기반 알림 예약 (단일 노드)
+ * 채널 수만 개에서도 예약/취소가 O(1) 이고, 알림 콜백은 ReminderDispatcher 를 거쳐 BotExecutor 에서 실행
+ * 이 노드가 받은 이벤트로만 예약되므로 샤드 구분 없이 보관
+ * 종료 시 아직 발송하지 않은 알림은 bot_reminder 에 발송 시각과 함께 남기고, 다음 기동 때 다시 예약
+ */
+@Component
+@ConditionalOnProperty(name = "wendy.reminder.store", havingValue = "local")
+public class LocalReminderQueue implements ReminderQueue {
+
+    private final ReminderDispatcher dispatcher;
+    private final BotReminderRepository reminderRepository;
+    private final HashedTimingWheel timingWheel;
+    private final Map<String, ChannelReminders> channelTasks = new ConcurrentHashMap<>();
+
+    public LocalReminderQueue(ReminderDispatcher dispatcher,
+                              BotReminderRepository reminderRepository,
+                              @Value("${wendy.reminder.local.tick-ms:1000}") long tickMillis,
+                              @Value("${wendy.reminder.local.wheel-size:512}") int wheelSize) {
+        this.dispatcher = dispatcher;
+        this.reminderRepository = reminderRepository;
+        this.timingWheel = new HashedTimingWheel(Duration.ofMillis(tickMillis), wheelSize, dispatcher::execute,
+                "wendy-reminder-wheel");
+    }
+
+    @Override
+    public void schedule(String channelId, int shardId) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<ReminderKind, LocalDateTime> dueTimes = new EnumMap<>(ReminderKind.class);
+        for (ReminderKind kind : ReminderKind.values()) {
+            dueTimes.put(kind, now.plus(kind.getDelay()));
+        }
+        schedule(channelId, shardId, dueTimes);
+    }
+
+    @Override
+    public void cancel(String channelId) {
+        ChannelReminders reminders = channelTasks.remove(channelId);
+        if (reminders != null) {
+            reminders.cancelAll();
+        }
+    }
+
+    @Override
+    public void handOff() {
+        timingWheel.close();
+
+        // cancel() 에 성공한 (= 아직 실행되지 않은) 알림만 남김
+        LocalDateTime now = LocalDateTime.now();
+        List<BotReminder> remaining = new ArrayList<>();
+        channelTasks.forEach((channelId, reminders) -> {
+            for (PendingReminder reminder : reminders.pending()) {
+                if (reminder.timeout().cancel()) {
+                    remaining.add(BotReminder.builder()
+                            .channelId(channelId)
+                            .shardId(reminders.shardId())
+                            .kind(reminder.kind())
+                            .dueAt(reminder.dueAt())
+                            .createdAt(now)
+                            .build());
+                }
+            }
+        });
+        channelTasks.clear();
+
+        if (remaining.isEmpty()) {
+            return;
+        }
+        try {
+            reminderRepository.saveAll(remaining);
+            System.out.println("[Scheduler] Handed off " + remaining.size() + " pending reminders to bot_reminder");
+        } catch (Exception e) {
+            System.err.println("[Scheduler] Failed to hand off " + remaining.size() + " reminders: " + e.getMessage());
+        }
+    }
+
+    // 이전 인스턴스가 종료하면서 남긴 알림을 다시 예약 (발송 시각이 지났으면 바로 발송)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        try {
+            List<BotReminder> saved = reminderRepository.findAll();
+            if (saved.isEmpty()) {
+                return;
+            }
+            reminderRepository.deleteAllInBatch(saved);
+
+            Map<String, Map<ReminderKind, LocalDateTime>> dueTimesByChannel = new HashMap<>();
+            Map<String, Integer> shardByChannel = new HashMap<>();
+            for (BotReminder reminder : saved) {
+                dueTimesByChannel.computeIfAbsent(reminder.getChannelId(), id -> new EnumMap<>(ReminderKind.class))
+                        .put(reminder.getKind(), reminder.getDueAt());
+                shardByChannel.put(reminder.getChannelId(), reminder.getShardId());
+            }
+            dueTimesByChannel.forEach((channelId, dueTimes) ->
+                    schedule(channelId, shardByChannel.get(channelId), dueTimes));
+            System.out.println("[Scheduler] Resumed " + saved.size() + " reminders for "
+                    + dueTimesByChannel.size() + " channels");
+        } catch (Exception e) {
+            System.err.println("[Scheduler] Failed to resume reminders: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.close();
+    }
+
+    private void schedule(String channelId, int shardId, Map<ReminderKind, LocalDateTime> dueTimes) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lastDueAt = Collections.max(dueTimes.values());
+
+        // 먼저 채널 항목을 교체한 뒤 예약 (발송 시각이 이미 지난 알림이 바로 실행돼도 정리 대상이 맞도록)
+        List<PendingReminder> pending = new CopyOnWriteArrayList<>();
+        ChannelReminders previous = channelTasks.put(channelId, new ChannelReminders(shardId, pending));
+        if (previous != null) {
+            previous.cancelAll();
+        }
+
+        dueTimes.forEach((kind, dueAt) -> {
+            Duration delay = Duration.between(now, dueAt);
+            HashedTimingWheel.Timeout timeout = timingWheel.schedule(() -> {
+                // 마지막 알림이 나가면 채널 항목 정리 (그 사이 재예약됐다면 새 목록은 유지)
+                if (dueAt.equals(lastDueAt)) {
+                    channelTasks.computeIfPresent(channelId,
+                            (id, current) -> current.pending() == pending ? null : current);
+                }
+                dispatcher.fire(channelId, kind);
+            }, delay.isNegative() ? Duration.ZERO : delay);
+            pending.add(new PendingReminder(kind, dueAt, timeout));
+        });
+    }
+
+    private record PendingReminder(ReminderKind kind, LocalDateTime dueAt, HashedTimingWheel.Timeout timeout) {
+    }
+
+    private record ChannelReminders(int shardId, List<PendingReminder> pending) {
+        void cancelAll() {
+            pending.forEach(reminder -> reminder.timeout().cancel());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.workingdead.chatbot.scheduler;
+
+import com.workingdead.chatbot.entity.BotReminder;
+import com.workingdead.chatbot.executor.BotExecutor;
+import com.workingdead.chatbot.executor.GuildFairScheduler;
+import com.workingdead.chatbot.gateway.DiscordGateway;
+import com.workingdead.chatbot.service.WendyNotifier;
+import com.workingdead.chatbot.service.WendyService;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 발송 시점이 된 알림을 채널에 전달 (길드별 공정 큐를 거쳐 실행)
+ * 이미 가져간 알림이므로 길드 큐 한도로 버리지 않음 (submitUncapped)
+ * bot_reminder 에서 가져간 알림은 발송을 마친 뒤(또는 보낼 대상이 없을 때) onDone 으로 알려 저장소에서 지우게 함
+ */
+@Component
+public class ReminderDispatcher {
+
+    private final WendyNotifier notifier;
+    private final WendyService wendyService;
+    private final DiscordGateway discordGateway;
+    private final GuildFairScheduler fairScheduler;
+    private final BotExecutor botExecutor;
+
+    // execute 로 넘겨받아 아직 끝나지 않은 작업 수 (종료 시 공정 큐에 넘어가기 전의 알림까지 기다리기 위함)
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public ReminderDispatcher(WendyNotifier notifier, WendyService wendyService, DiscordGateway discordGateway,
+                              GuildFairScheduler fairScheduler, BotExecutor botExecutor) {
+        this.notifier = notifier;
+        this.wendyService = wendyService;
+        this.discordGateway = discordGateway;
+        this.fairScheduler = fairScheduler;
+        this.botExecutor = botExecutor;
+    }
+
+    public void fire(String channelId, ReminderKind kind) {
+        fire(channelId, kind, () -> { });
+    }
+
+    // 발송에 실패하면 onDone 을 부르지 않음 → 저장소의 알림은 claim 이 만료된 뒤 다시 가져가짐
+    private void fire(String channelId, ReminderKind kind, Runnable onDone) {
+        TextChannel channel = resolve(channelId, kind);
+        if (channel == null) {
+            onDone.run();
+            return;
+        }
+
+        fairScheduler.submitUncapped(channel.getGuild().getId(), channelId, () -> {
+            boolean sent = kind == ReminderKind.VOTE_STATUS
+                    ? notifier.shareVoteStatus(channel)
+                    : notifier.remindNonVoters(channel, kind.getTiming());
+            if (sent) {
+                onDone.run();
+            }
+        });
+    }
+
+    /**
+     * 한 번의 폴링에서 함께 due 된 알림 묶음
+     * 미투표자 독촉은 모든 채널의 미제출 참여자를 한 번에 조회한 뒤 채널별 발송만 공정 큐로 넘김
+     * (채널마다 투표별로 조회하지 않도록), 조회는 폴러 스레드가 아닌 BotExecutor 에서 실행
+     */
+    public void fireAll(List<BotReminder> reminders, Consumer<BotReminder> onDone) {
+        List<BotReminder> nonVoterReminders = new ArrayList<>();
+        for (BotReminder reminder : reminders) {
+            if (reminder.getKind() == ReminderKind.VOTE_STATUS) {
+                fire(reminder.getChannelId(), reminder.getKind(), () -> onDone.accept(reminder));
+            } else {
+                nonVoterReminders.add(reminder);
+            }
+        }
+        if (nonVoterReminders.isEmpty()) {
+            return;
+        }
+
+        execute(() -> remindNonVoters(nonVoterReminders, onDone));
+    }
+
+    // 알림 발송 준비 작업(일괄 조회, 타이밍 휠 콜백)을 BotExecutor 에서 실행하고 종료 대기 대상으로 추적
+    public void execute(Runnable task) {
+        pending.incrementAndGet();
+        botExecutor.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                pending.decrementAndGet();
+            }
+        });
+    }
+
+    // 종료 시: execute 로 넘긴 작업이 모두 공정 큐에 발송을 넘길 때까지 최대 timeout 동안 기다림 (다 끝나면 true)
+    public boolean awaitPending(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+
+    private void remindNonVoters(List<BotReminder> reminders, Consumer<BotReminder> onDone) {
+        Set<String> channelIds = reminders.stream()
+                .map(BotReminder::getChannelId)
+                .collect(Collectors.toSet());
+
+        Map<String, List<String>> nonVoterIds;
+        try {
+            nonVoterIds = botExecutor.callWithDbPermit(() -> wendyService.getNonVoterIds(channelIds));
+        } catch (Exception e) {
+            // 일괄 조회에 실패하면 채널별 조회로 대신 발송
+            System.err.println("[Scheduler] Failed to resolve non-voters for " + channelIds.size()
+                    + " channels, falling back to per-channel: " + e.getMessage());
+            reminders.forEach(reminder ->
+                    fire(reminder.getChannelId(), reminder.getKind(), () -> onDone.accept(reminder)));
+            return;
+        }
+
+        // 보낼 대상이 없는 알림(모두 투표함, 채널 없음)은 발송 없이 끝난 것으로 처리
+        List<BotReminder> nothingToSend = new ArrayList<>();
+        for (BotReminder reminder : reminders) {
+            List<String> channelNonVoterIds = nonVoterIds.getOrDefault(reminder.getChannelId(), List.of());
+            if (channelNonVoterIds.isEmpty()) {
+                nothingToSend.add(reminder);
+                continue;
+            }
+
+            TextChannel channel = resolve(reminder.getChannelId(), reminder.getKind());
+            if (channel == null) {
+                nothingToSend.add(reminder);
+                continue;
+            }
+            fairScheduler.submitUncapped(channel.getGuild().getId(), reminder.getChannelId(), () -> {
+                if (notifier.remindNonVoters(channel, reminder.getKind().getTiming(), channelNonVoterIds)) {
+                    onDone.accept(reminder);
+                }
+            });
+        }
+        if (!nothingToSend.isEmpty()) {
+            botExecutor.runWithDbPermit(() -> nothingToSend.forEach(onDone));
+        }
+    }
+
+    private TextChannel resolve(String channelId, ReminderKind kind) {
+        TextChannel channel = discordGateway.getTextChannelById(channelId);
+        if (channel == null) {
+            System.err.println("[Scheduler] Channel not found, reminder skipped: " + channelId + " (" + kind + ")");
+        }
+        return channel;
+    }
+}
@@ -0,0 +1,31 @@
+package com.workingdead.chatbot.scheduler;
+
+import com.workingdead.chatbot.service.WendyNotifier.RemindTiming;
+
+import java.time.Duration;
+
+/**
+ * 투표 생성 후 예약되는 알림 종류와 발송 시점
+ */
+public enum ReminderKind {
+    // 2.3 투표 현황: 10분 후 첫 공유
+    VOTE_STATUS(Duration.ofMinutes(10), null),
+
+    // 2.4 미투표자 독촉
+    MIN_15(Duration.ofMinutes(15), RemindTiming.MIN_15),
+    HOUR_1(Duration.ofHours(1), RemindTiming.HOUR_1),
+    HOUR_6(Duration.ofHours(6), RemindTiming.HOUR_6),
+    HOUR_12(Duration.ofHours(12), RemindTiming.HOUR_12),
+    HOUR_24(Duration.ofHours(24), RemindTiming.HOUR_24);
+
+    private final Duration delay;
+    private final RemindTiming timing;
+
+    ReminderKind(Duration delay, RemindTiming timing) {
+        this.delay = delay;
+        this.timing = timing;
+    }
+
+    public Duration getDelay() { return delay; }
+    public RemindTiming getTiming() { return timing; }
+}
@@ -0,0 +1,17 @@
+package com.workingdead.chatbot.scheduler;
+
+/**
+ * 채널별 알림 예약 저장소
+ * - db: bot_reminder 테이블 + 폴러 (재시작/다중 노드 안전, 기본값)
+ * - local: 프로세스 내 스케줄러 (단일 노드 전용)
+ */
+public interface ReminderQueue {
+
+    // 기존 예약을 지우고 ReminderKind 전체를 지금 기준으로 예약 (shardId: 채널이 속한 디스코드 샤드)
+    void schedule(String channelId, int shardId);
+
+    void cancel(String channelId);
+
+    // 종료 시: 새 알림 발송을 멈추고, 아직 발송하지 않은 알림은 다음 인스턴스가 이어받을 수 있게 bot_reminder 에 남김
+    void handOff();
+}
@@ -1,50 +1,30 @@
 package com.workingdead.chatbot.scheduler;
 
-import com.workingdead.chatbot.service.WendyNotifier;
-import com.workingdead.chatbot.service.WendyNotifier.RemindTiming;
+import com.workingdead.chatbot.gateway.ShardAssignment;
 import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.*;
-
 @Component
 public class WendyScheduler {
     
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
-    private final WendyNotifier notifier;
-    private final Map<String, List<ScheduledFuture<?>>> channelTasks = new ConcurrentHashMap<>();
+    private final ReminderQueue reminderQueue;
+    private final ShardAssignment shardAssignment;
     
-    public WendyScheduler(WendyNotifier notifier) {
-        this.notifier = notifier;
+    public WendyScheduler(ReminderQueue reminderQueue, ShardAssignment shardAssignment) {
+        this.reminderQueue = reminderQueue;
+        this.shardAssignment = shardAssignment;
     }
     
     public void startSchedule(TextChannel channel) {
         String channelId = channel.getId();
-        stopSchedule(channelId);
-        
-        CopyOnWriteArrayList<ScheduledFuture<?>> tasks = new CopyOnWriteArrayList<>();
-        
-        // 2.3 투표 현황: 10분 후 첫 공유
-        tasks.add(scheduler.schedule(() -> notifier.shareVoteStatus(channel), 10, TimeUnit.MINUTES));
 
-        // 2.4 미투표자 독촉
-        tasks.add(scheduler.schedule(() -> notifier.remindNonVoters(channel, RemindTiming.MIN_15), 15, TimeUnit.MINUTES));
-        tasks.add(scheduler.schedule(() -> notifier.remindNonVoters(channel, RemindTiming.HOUR_1), 1, TimeUnit.HOURS));
-        tasks.add(scheduler.schedule(() -> notifier.remindNonVoters(channel, RemindTiming.HOUR_6), 6, TimeUnit.HOURS));
-        tasks.add(scheduler.schedule(() -> notifier.remindNonVoters(channel, RemindTiming.HOUR_12), 12, TimeUnit.HOURS));
-        tasks.add(scheduler.schedule(() -> notifier.remindNonVoters(channel, RemindTiming.HOUR_24), 24, TimeUnit.HOURS));
-        
-        channelTasks.put(channelId, tasks);
+        // 2.3 투표 현황 공유 + 2.4 미투표자 독촉 (ReminderKind 참고)
+        reminderQueue.schedule(channelId, shardAssignment.shardOf(channel.getGuild().getIdLong()));
         System.out.println("[Scheduler] Schedule started: " + channelId);
     }
     
     public void stopSchedule(String channelId) {
-        List<ScheduledFuture<?>> tasks = channelTasks.remove(channelId);
-        if (tasks != null) {
-            tasks.forEach(task -> task.cancel(false));
-            System.out.println("[Scheduler] Schedule stopped: " + channelId);
-        }
+        reminderQueue.cancel(channelId);
+        System.out.println("[Scheduler] Schedule stopped: " + channelId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,70 @@
+package com.workingdead.chatbot.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 봇 메시지 본문 캐시 (voteId, resultVersion, template) -> 렌더링된 문자열
+ * 결과가 바뀌면 resultVersion 이 올라가 새 키가 되므로 별도 무효화 없이 LRU 로 오래된 항목을 밀어냄
+ */
+@Component
+public class RenderedMessageCache {
+
+    public enum Template { VOTE_STATUS, FINAL_NOTICE }
+
+    private record Key(Long voteId, long resultVersion, Template template) {}
+
+    private final Map<Key, String> entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RenderedMessageCache(MeterRegistry meterRegistry,
+                                @Value("${wendy.render-cache.max-entries:2000}") int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        Gauge.builder("wendy.render.cache.size", this, RenderedMessageCache::size)
+                .description("캐시된 봇 메시지 본문 수")
+                .register(meterRegistry);
+        this.hitCounter = meterRegistry.counter("wendy.render.cache.hit");
+        this.missCounter = meterRegistry.counter("wendy.render.cache.miss");
+    }
+
+    // 렌더링(결과 조회 포함)은 락 밖에서 수행, 같은 키를 동시에 렌더링하면 마지막 값이 남음
+    public String get(Long voteId, long resultVersion, Template template, Supplier<String> renderer) {
+        Key key = new Key(voteId, resultVersion, template);
+        synchronized (entries) {
+            String cached = entries.get(key);
+            if (cached != null) {
+                hitCounter.increment();
+                return cached;
+            }
+        }
+
+        missCounter.increment();
+        String rendered = renderer.get();
+        if (rendered != null) {
+            synchronized (entries) {
+                entries.put(key, rendered);
+            }
+        }
+        return rendered;
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.workingdead.chatbot.service;
+
+import com.workingdead.chatbot.executor.GuildFairScheduler;
+import com.workingdead.config.DataSourceRoutingContext;
+import jakarta.annotation.PreDestroy;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제출 직후 투표 현황 공유를 채널 단위로 디바운스
+ * 마지막 요청 후 quiet-window 동안 조용하면 공유하되, 첫 요청부터 max-wait 가 지나면 바로 공유
+ * 공유 시점에 결과를 새로 계산하므로 burst 한 번에 계산/메시지 한 번이고, 항상 최신 상태를 반영
+ */
+@Component
+public class VoteStatusShareDebouncer {
+
+    private final WendyNotifier notifier;
+    private final GuildFairScheduler fairScheduler;
+    private final long quietMillis;
+    private final long maxWaitMillis;
+    private final long readYourWritesMillis;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "wendy-share-debounce");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, PendingShare> pending = new ConcurrentHashMap<>();
+
+    public VoteStatusShareDebouncer(WendyNotifier notifier,
+                                    GuildFairScheduler fairScheduler,
+                                    @Value("${wendy.share.quiet-window-ms:5000}") long quietMillis,
+                                    @Value("${wendy.share.max-wait-ms:30000}") long maxWaitMillis,
+                                    @Value("${app.datasource.replica.read-your-writes-window:2s}") Duration readYourWritesWindow) {
+        this.notifier = notifier;
+        this.fairScheduler = fairScheduler;
+        this.quietMillis = quietMillis;
+        this.maxWaitMillis = maxWaitMillis;
+        this.readYourWritesMillis = readYourWritesWindow.toMillis();
+    }
+
+    public void requestShare(TextChannel channel) {
+        long now = System.currentTimeMillis();
+        pending.compute(channel.getId(), (channelId, share) -> {
+            PendingShare next = share != null ? share : new PendingShare(now);
+            next.channel = channel;
+            next.lastRequestAt = now;
+            if (next.future != null) {
+                next.future.cancel(false);
+            }
+            long fireAt = Math.min(now + quietMillis, next.firstRequestAt + maxWaitMillis);
+            PendingShare target = next;
+            next.future = executor.schedule(() -> fire(channelId, target), Math.max(fireAt - now, 0), TimeUnit.MILLISECONDS);
+            return next;
+        });
+    }
+
+    // 종료 시: 대기 중인 공유를 타이머를 기다리지 않고 바로 길드 큐로 넘김
+    public void flushPending() {
+        pending.forEach((channelId, share) -> {
+            if (share.future != null) {
+                share.future.cancel(false);
+            }
+            fire(channelId, share);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void fire(String channelId, PendingShare share) {
+        if (!pending.remove(channelId, share)) {
+            return;
+        }
+
+        // 마지막 제출 직후라 replica 가 아직 못 따라왔을 수 있으면 primary 에서 읽음
+        // 결과 계산은 길드별 공정 큐로 넘겨 디바운스 타이머 스레드를 막지 않음
+        // burst 를 합친 뒤 남은 단 하나의 공유라 버리면 다시 오지 않음 → 길드 큐 한도 없이 넣음 (채널당 최대 1건)
+        boolean readPrimary = System.currentTimeMillis() - share.lastRequestAt < readYourWritesMillis;
+        fairScheduler.submitUncapped(share.channel.getGuild().getId(), channelId, () -> {
+            if (readPrimary) {
+                DataSourceRoutingContext.runOnPrimary(() -> notifier.shareVoteStatus(share.channel));
+            } else {
+                notifier.shareVoteStatus(share.channel);
+            }
+        });
+    }
+
+    private static final class PendingShare {
+        private final long firstRequestAt;
+        private volatile long lastRequestAt;
+        private volatile TextChannel channel;
+        private ScheduledFuture<?> future;
+
+        private PendingShare(long firstRequestAt) {
+            this.firstRequestAt = firstRequestAt;
+        }
+    }
+}
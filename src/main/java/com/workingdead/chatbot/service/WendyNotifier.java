@@ -1,7 +1,9 @@
 package com.workingdead.chatbot.service;
 
+import com.workingdead.chatbot.outbound.OutboundMessageDispatcher;
 import com.workingdead.meet.dto.VoteResultDtos.RankingRes;
 import com.workingdead.meet.dto.VoteResultDtos.VoteResultRes;
+import com.workingdead.meet.service.VoteProgressService;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -14,64 +16,42 @@ import org.springframework.stereotype.Service;
 public class WendyNotifier {
 
     private final WendyService wendyService;
+    private final OutboundMessageDispatcher outbound;
+    private final VoteProgressService voteProgressService;
+    private final RenderedMessageCache renderCache;
 
-    public void shareVoteStatus(TextChannel channel) {
+    // 아래 발송 메서드는 실패를 로그로 남기고 false 를 반환 (bot_reminder 는 true 일 때만 삭제해 다시 발송)
+    public boolean shareVoteStatus(TextChannel channel) {
         try {
-            VoteResultRes result = wendyService.getVoteStatus(channel.getId());
-            String shareUrl = wendyService.getShareUrl(channel.getId());
-
-            if (result == null || result.rankings() == null || result.rankings().isEmpty()) {
-                channel.sendMessage("""
-                    웬디가 투표 현황을 공유드려요! :D
-                    
-                    엥 아직 아무도 투표를 안 했네요 :(
-                    
-                    투표하러 가기: """ + shareUrl
-                ).queue();
-                return;
-            }
-
-            StringBuilder sb = new StringBuilder();
-            sb.append("웬디가 투표 현황을 공유드려요! :D\n");
-
-            if (shareUrl != null && !shareUrl.isBlank()) {
-                sb.append("\n투표하러 가기: ").append(shareUrl).append("\n\n");
-            } else {
-                sb.append("\n투표 링크가 준비되지 않았어요 😢\n\n");
-            }
-
-            for (RankingRes rank : result.rankings()) {
-                if (rank.rank() == null) continue;
-
-                String periodLabel = "LUNCH".equals(rank.period()) ? "점심" : "저녁";
-                sb.append("📌")
-                        .append(rank.rank()).append("순위 ")
-                        .append(rank.date()).append(" ").append(periodLabel).append("\n");
-
-                if (rank.voters() != null && !rank.voters().isEmpty()) {
-                    String voterStr = rank.voters().stream()
-                            .map(v -> v.participantName() +
-                                    (v.priorityIndex() != null ? "(" + v.priorityIndex() + ")" : ""))
-                            .collect(Collectors.joining(", "));
-                    sb.append("투표자: ").append(voterStr).append("\n");
-                }
-                sb.append("\n");
-
-
-            }
-
-            channel.sendMessage(sb.toString()).queue();
+            String channelId = channel.getId();
+            Long voteId = wendyService.getVoteId(channelId);
+            String message = voteId == null
+                    ? renderVoteStatus(channelId)
+                    : renderCache.get(voteId, voteProgressService.getResultVersion(voteId),
+                            RenderedMessageCache.Template.VOTE_STATUS, () -> renderVoteStatus(channelId));
+
+            outbound.send(channel, message);
+            return true;
         } catch (Exception e) {
             System.err.println("[Scheduler] Failed to share vote status: " + e.getMessage());
+            return false;
         }
     }
 
-    public void remindNonVoters(TextChannel channel, RemindTiming timing) {
+    public boolean remindNonVoters(TextChannel channel, RemindTiming timing) {
         try {
-            List<String> nonVoterIds = wendyService.getNonVoterIds(channel.getId());
+            return remindNonVoters(channel, timing, wendyService.getNonVoterIds(channel.getId()));
+        } catch (Exception e) {
+            System.err.println("[Scheduler] Failed to send reminder: " + e.getMessage());
+            return false;
+        }
+    }
 
+    // 미투표자를 미리 조회해 둔 경우 (여러 채널 일괄 조회)
+    public boolean remindNonVoters(TextChannel channel, RemindTiming timing, List<String> nonVoterIds) {
+        try {
             if (nonVoterIds == null || nonVoterIds.isEmpty()) {
-                return;
+                return true;
             }
 
             String mentions = nonVoterIds.stream()
@@ -83,19 +63,77 @@ public class WendyNotifier {
                 case HOUR_6 -> "다들 " + mentions + " 님의 투표를 기다리고 있어요🙌";
                 case HOUR_12 -> mentions + " 웬디 기다리다 지쳐버림…🥹 대머리신가요?";
                 case HOUR_24 -> {
-                    String bestDateTime = wendyService.getTopRankedDateTime(channel.getId());
-                    String deadline = wendyService.getVoteDeadline(channel.getId());
-                    yield "최후통첩✉️\n" + mentions + "\n\n: " + deadline + "까지 투표 불참 시, " + bestDateTime + "으로 확정됩니다";
+                    String channelId = channel.getId();
+                    Long voteId = wendyService.getVoteId(channelId);
+                    String notice = voteId == null
+                            ? renderFinalNotice(channelId)
+                            : renderCache.get(voteId, voteProgressService.getResultVersion(voteId),
+                                    RenderedMessageCache.Template.FINAL_NOTICE, () -> renderFinalNotice(channelId));
+                    yield "최후통첩✉️\n" + mentions + "\n\n" + notice;
                 }
             };
 
-            channel.sendMessage(message).queue();
+            outbound.send(channel, message);
             System.out.println("[Scheduler] Reminder sent: " + timing);
+            return true;
         } catch (Exception e) {
             System.err.println("[Scheduler] Failed to send reminder: " + e.getMessage());
+            return false;
         }
     }
 
+    private String renderVoteStatus(String channelId) {
+        VoteResultRes result = wendyService.getVoteStatus(channelId);
+        String shareUrl = wendyService.getShareUrl(channelId);
+
+        if (result == null || result.rankings() == null || result.rankings().isEmpty()) {
+            return """
+                웬디가 투표 현황을 공유드려요! :D
+                
+                엥 아직 아무도 투표를 안 했네요 :(
+                
+                투표하러 가기: """ + shareUrl;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("웬디가 투표 현황을 공유드려요! :D\n");
+
+        if (shareUrl != null && !shareUrl.isBlank()) {
+            sb.append("\n투표하러 가기: ").append(shareUrl).append("\n\n");
+        } else {
+            sb.append("\n투표 링크가 준비되지 않았어요 😢\n\n");
+        }
+
+        for (RankingRes rank : result.rankings()) {
+            if (rank.rank() == null) continue;
+
+            String periodLabel = "LUNCH".equals(rank.period()) ? "점심" : "저녁";
+            sb.append("📌")
+                    .append(rank.rank()).append("순위 ")
+                    .append(rank.date()).append(" ").append(periodLabel).append("\n");
+
+            if (rank.voters() != null && !rank.voters().isEmpty()) {
+                String voterStr = rank.voters().stream()
+                        .map(v -> v.participantName() +
+                                (v.priorityIndex() != null ? "(" + v.priorityIndex() + ")" : ""))
+                        .collect(Collectors.joining(", "));
+                sb.append("투표자: ").append(voterStr).append("\n");
+            }
+            sb.append("\n");
+
+
+        }
+
+        return sb.toString();
+    }
+
+    // 최후통첩의 "마감 시각 / 1순위 일정" 부분 (투표 결과가 바뀔 때만 다시 계산)
+    private String renderFinalNotice(String channelId) {
+        String bestDateTime = wendyService.getTopRankedDateTime(channelId);
+        String deadline = wendyService.getVoteDeadline(channelId);
+        return ": " + deadline + "까지 투표 불참 시, " + bestDateTime + "으로 확정됩니다";
+    }
+
     public enum RemindTiming { MIN_15, HOUR_1, HOUR_6, HOUR_12, HOUR_24 }
 
 }
@@ -1,12 +1,13 @@
 package com.workingdead.chatbot.service;
 
 import com.workingdead.meet.dto.VoteResultDtos.VoteResultRes;
-import net.dv8tion.jda.api.entities.Member;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface WendyService {
-    void startSession(String channelId, List<Member> participants);
+    void startSession(String channelId, int shardId);
     boolean isSessionActive(String channelId);
     void endSession(String channelId);
     
@@ -16,6 +17,7 @@ public interface WendyService {
     String createVote(String channelId, String channelName, int weeks);
     VoteResultRes getVoteStatus(String channelId);
     List<String> getNonVoterIds(String channelId);
+    Map<String, List<String>> getNonVoterIds(Collection<String> channelIds);
 
     String getShareUrl(String channelId);
     boolean hasPreviousVote(String channelId);
@@ -25,4 +27,5 @@ public interface WendyService {
     String getTopRankedDateTime(String channelId);
 
     String getChannelIdByVoteId(Long voteId);
+    Long getVoteId(String channelId);
 }
\ No newline at end of file
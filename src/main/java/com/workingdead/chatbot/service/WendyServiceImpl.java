@@ -1,95 +1,78 @@
 package com.workingdead.chatbot.service;
 
+import com.workingdead.chatbot.entity.BotChannelSession;
+import com.workingdead.chatbot.gateway.ShardAssignment;
+import com.workingdead.chatbot.gateway.ShardOwnershipChangedEvent;
+import com.workingdead.chatbot.repository.BotChannelSessionRepository;
+import com.workingdead.chatbot.session.ChannelSession;
+import com.workingdead.chatbot.session.ChannelSessionStore;
 import com.workingdead.meet.dto.ParticipantDtos.ParticipantRes;
-import com.workingdead.meet.dto.ParticipantDtos.ParticipantStatusRes;
 import com.workingdead.meet.dto.VoteDtos.CreateVoteReq;
 import com.workingdead.meet.dto.VoteDtos.VoteSummary;
 import com.workingdead.meet.dto.VoteResultDtos.RankingRes;
 import com.workingdead.meet.dto.VoteResultDtos.VoteResultRes;
 import com.workingdead.meet.service.ParticipantService;
+import com.workingdead.meet.service.VoteProgressService;
 import com.workingdead.meet.service.VoteResultService;
 import com.workingdead.meet.service.VoteService;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.stream.Collectors;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import net.dv8tion.jda.api.entities.Member;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
 
 
 @Service
 @RequiredArgsConstructor
 public class WendyServiceImpl implements WendyService {
 
+    private static final int PERSIST_ATTEMPTS = 3;
+    private static final long PERSIST_RETRY_BACKOFF_MILLIS = 100;
+
     private final VoteService voteService;
     private final ParticipantService participantService;
     private final VoteResultService voteResultService;
+    private final VoteProgressService voteProgressService;
+    private final BotChannelSessionRepository sessionRepository;
+    private final ShardAssignment shardAssignment;
+    private final MeterRegistry meterRegistry;
 
-    // 활성 세션 관리 (channelId 기반)
-    private final Set<String> activeSessions = ConcurrentHashMap.newKeySet();
-
-    // 디스코드 참석자 (channelId -> (discordUserId -> displayName))
-    private final Map<String, Map<String, String>> participants = new ConcurrentHashMap<>();
-
-    // 생성된 투표 id (channelId -> voteId)
-    private final Map<String, Long> channelVoteId = new ConcurrentHashMap<>();
-
-    // 생성된 투표 링크
-    private final Map<String, String> channelShareUrl = new ConcurrentHashMap<>();
-    
-    // 투표 생성 여부 (재투표 체크용)
-    private final Set<String> hasVote = ConcurrentHashMap.newKeySet();
-
-    // 투표 생성 시각 및 기준 주차
-    private final Map<String, LocalDateTime> voteCreatedAt = new ConcurrentHashMap<>();
-    private final Map<String, Integer> voteWeeks = new ConcurrentHashMap<>();
+    // 채널별 세션 (channelId -> ChannelSession), 이 노드는 담당 샤드의 채널 상태만 보관
+    // 재시작/축출 후 채널별 최초 접근 시 DB 스냅샷에서 복원
+    private final ChannelSessionStore sessionStore;
 
     @Override
-    public void startSession(String channelId, List<Member> members) {
-        activeSessions.add(channelId);
-
-        participants.put(channelId, new ConcurrentHashMap<>());
-
-        channelVoteId.remove(channelId);
-        channelShareUrl.remove(channelId);
-
-        voteCreatedAt.remove(channelId);
-        voteWeeks.remove(channelId);
+    public void startSession(String channelId, int shardId) {
+        update(channelId, session -> session.started(shardId));
         System.out.println("[When:D] Session started: " + channelId);
     }
     
     @Override
     public boolean isSessionActive(String channelId) {
-        return activeSessions.contains(channelId);
+        ChannelSession session = session(channelId);
+        return session != null && session.active();
     }
     
     @Override
     public void endSession(String channelId) {
-        activeSessions.remove(channelId);
-        participants.remove(channelId);
-
-        channelVoteId.remove(channelId);
-        channelShareUrl.remove(channelId);
-
-        hasVote.remove(channelId);
-        voteCreatedAt.remove(channelId);
-        voteWeeks.remove(channelId);
+        update(channelId, ChannelSession::ended);
         System.out.println("[When:D] Session ended: " + channelId);
     }
     
     @Override
     public void addParticipant(String channelId, String memberId, String memberName) {
         // 1. 디스코드 참석자 목록에 추가 (기존 값이 있었는지 확인)
-        Map<String, String> channelParticipants =
-                participants.computeIfAbsent(channelId, k -> new ConcurrentHashMap<>());
-        String previousName = channelParticipants.put(memberId, memberName);
+        ChannelSessionStore.Transition transition =
+                update(channelId, session -> session.withParticipant(memberId, memberName));
+        String previousName = transition.before().participants().get(memberId);
 
-        Long voteId = channelVoteId.get(channelId);
+        Long voteId = transition.after().voteId();
         if (voteId == null) {
             // 아직 투표가 생성되지 않았다면, createVote 시점에 한 번에 도메인 Participant 생성
             System.out.println("[When:D] Participant added BEFORE vote: " + memberName
@@ -106,20 +89,22 @@ public class WendyServiceImpl implements WendyService {
         }
 
         // 2. 투표가 생성된 이후 처음 합류하는 참석자에 대해서만 도메인 Participant 생성
-        ParticipantRes pRes = participantService.add(voteId, memberName);
+        ParticipantRes pRes = participantService.add(voteId, memberName, memberId);
         System.out.println("[When:D] Participant added AFTER vote: " + memberName
                 + " (discordId=" + memberId + ", participantId=" + pRes.id() + ")");
     }
 
     @Override
     public void removeParticipant(String channelId, String memberId) {
-        Map<String, String> channelParticipants = participants.get(channelId);
         String removedName = null;
-        if (channelParticipants != null) {
-            removedName = channelParticipants.remove(memberId);
+        Long voteId = null;
+        if (session(channelId) != null) {
+            ChannelSessionStore.Transition transition =
+                    update(channelId, session -> session.withoutParticipant(memberId));
+            removedName = transition.before().participants().get(memberId);
+            voteId = transition.after().voteId();
         }
 
-        Long voteId = channelVoteId.get(channelId);
         if (voteId == null) {
             System.out.println("[When:D] Participant removed BEFORE vote: "
                     + (removedName != null ? removedName : memberId)
@@ -135,9 +120,7 @@ public class WendyServiceImpl implements WendyService {
 
     @Override
     public String createVote(String channelId, String channelName, int weeks) {
-        hasVote.add(channelId);
-        voteCreatedAt.put(channelId, LocalDateTime.now());
-        voteWeeks.put(channelId, weeks);
+        LocalDateTime createdAt = LocalDateTime.now();
 
         // 1. 날짜 범위 계산
         LocalDate today = LocalDate.now();
@@ -156,27 +139,29 @@ public class WendyServiceImpl implements WendyService {
             endDate = startDate.plusDays(6);
         }
 
-        // 2. 참여자 이름 리스트 만들기
-        Map<String, String> channelParticipants = participants.getOrDefault(channelId, Map.of());
-        List<String> participantNames = new ArrayList<>(channelParticipants.values());
+        // 2. 디스코드 참석자 (discordUserId -> displayName)
+        // 세션을 읽지 못했으면 참석자 없이 투표를 만들지 않고 실패
+        ChannelSession session = session(channelId);
+        if (session == null) {
+            throw new IllegalStateException("Session not available on this node: " + channelId);
+        }
+        Map<String, String> channelParticipants = session.participants();
 
-        // 3. 투표 생성 DTO 구성
+        // 3. 투표 생성 DTO 구성 (참여자는 discordUserId 와 함께 별도로 전달)
         CreateVoteReq req = new CreateVoteReq(
                 channelName,
                 startDate,
                 endDate,
-                participantNames.isEmpty() ? null : participantNames
+                null
         );
 
         // 4. 투표 생성
-        VoteSummary summary = voteService.create(req);
+        VoteSummary summary = voteService.create(req, channelId, channelParticipants);
         Long voteId = summary.id();
         String shareUrl = summary.shareUrl();
-        channelShareUrl.put(channelId, shareUrl);
-
-        // 5. channelId -> voteId 매핑 저장
-        channelVoteId.put(channelId, voteId);
 
+        // 5. 투표 정보를 한 번에 반영 (channelId <-> voteId 매핑 포함)
+        update(channelId, current -> current.withVote(voteId, shareUrl, createdAt, weeks));
 
         System.out.println("[When:D] Vote created for channel " + channelId + " (voteId=" + voteId
                 + ", (weeks=" + weeks + "))");
@@ -185,7 +170,7 @@ public class WendyServiceImpl implements WendyService {
     
     @Override
     public VoteResultRes getVoteStatus(String channelId) {
-        Long voteId = channelVoteId.get(channelId);
+        Long voteId = getVoteId(channelId);
         if (voteId == null) {
             return null;
         }
@@ -195,46 +180,65 @@ public class WendyServiceImpl implements WendyService {
 
     @Override
     public List<String> getNonVoterIds(String channelId) {
-        Long voteId = channelVoteId.get(channelId);
+        ChannelSession session = session(channelId);
+        Long voteId = session != null ? session.voteId() : null;
         if (voteId == null) {
             return List.of();
         }
 
-        Map<String, String> channelParticipants = participants.getOrDefault(channelId, Map.of());
+        Map<String, String> channelParticipants = session.participants();
         if (channelParticipants.isEmpty()) {
             return List.of();
         }
 
-        // 1. submitted=false 인 사람들만 이름 수집
-        List<ParticipantStatusRes> statuses =
-                participantService.getParticipantStatusByVoteId(voteId);
-
-        Set<String> nonSubmittedNames = statuses.stream()
-                .filter(s -> !Boolean.TRUE.equals(s.submitted()))
-                .map(ParticipantStatusRes::displayName)
-                .collect(Collectors.toSet());
+        // 0. 카운터 기준으로 모두 제출했다면 참여자 조회 없이 종료
+        if (voteProgressService.isAllSubmitted(voteId)) {
+            return List.of();
+        }
 
-        // 2. 디스코드 참석자 중 submitted=false 인 사람만 discordId 반환
-        List<String> nonVoters = new ArrayList<>();
-        for (Map.Entry<String, String> entry : channelParticipants.entrySet()) {
-            if (nonSubmittedNames.contains(entry.getValue())) {
-                nonVoters.add(entry.getKey());
+        // 1. submitted=false 인 참여자의 discordId 를 한 번에 조회
+        // 2. 그중 현재 디스코드 참석자 목록에 남아 있는 사람만 반환
+        return participantService.getUnsubmittedDiscordUserIds(voteId).stream()
+                .filter(channelParticipants::containsKey)
+                .toList();
+    }
+    
+    @Override
+    public Map<String, List<String>> getNonVoterIds(Collection<String> channelIds) {
+        // 0. 재시작 직후라면 메모리에 없는 채널의 세션을 한 번에 복원
+        preload(channelIds);
+
+        // 1. 채널별 현재 투표 (참석자가 없거나 투표가 없는 채널은 제외)
+        Map<Long, ChannelSession> sessionsByVoteId = new HashMap<>();
+        for (String channelId : channelIds) {
+            ChannelSession session = session(channelId);
+            if (session != null && session.voteId() != null && !session.participants().isEmpty()) {
+                sessionsByVoteId.put(session.voteId(), session);
             }
         }
 
-        return nonVoters;
+        // 2. 모든 투표의 미제출 참여자를 한 번에 조회 (모두 제출한 투표는 결과에 없음)
+        Map<Long, List<String>> unsubmitted = participantService.getUnsubmittedDiscordUserIds(sessionsByVoteId.keySet());
+
+        // 3. 채널별로 현재 디스코드 참석자 목록에 남아 있는 사람만 반환
+        Map<String, List<String>> nonVoterIds = new HashMap<>();
+        sessionsByVoteId.forEach((voteId, session) -> nonVoterIds.put(session.channelId(),
+                unsubmitted.getOrDefault(voteId, List.of()).stream()
+                        .filter(session.participants()::containsKey)
+                        .toList()));
+        return nonVoterIds;
     }
-    
+
     @Override
     public boolean hasPreviousVote(String channelId) {
-        return hasVote.contains(channelId);
+        ChannelSession session = session(channelId);
+        return session != null && session.hasVote();
     }
     
     @Override
     public String recreateVote(String channelId, String channelName, int weeks) {
         // 이전 voteId 사용하지 않고,
-        // 채널에 저장된 디스코드 참석자 목록을 기준으로 새 투표를 생성
-        channelVoteId.remove(channelId);
+        // 채널에 저장된 디스코드 참석자 목록을 기준으로 새 투표를 생성 (voteId 는 생성 시점에 교체)
 
         String shareUrl = createVote(channelId, channelName, weeks);
         System.out.println("[When:D] Vote recreated for channel " + channelId + " (weeks=" + weeks + ")");
@@ -243,23 +247,24 @@ public class WendyServiceImpl implements WendyService {
 
     @Override
     public String getShareUrl(String channelId) {
-        return channelShareUrl.get(channelId);
+        ChannelSession session = session(channelId);
+        return session != null ? session.shareUrl() : null;
     }
 
     @Override
     public String getVoteDeadline(String channelId) {
-        LocalDateTime createdAt = voteCreatedAt.get(channelId);
-        if (createdAt == null) {
+        ChannelSession session = session(channelId);
+        LocalDateTime deadline = session != null ? session.voteDeadline() : null;
+        if (deadline == null) {
             return "No vote created.";
         }
-        LocalDateTime deadline = createdAt.plusHours(24);
 
         return deadline.format(DateTimeFormatter.ofPattern("HH:mm"));
     }
 
     @Override
     public String getTopRankedDateTime(String channelId) {
-        Long voteId = channelVoteId.get(channelId);
+        Long voteId = getVoteId(channelId);
         if (voteId == null) {
             return "1순위 일정";
         }
@@ -297,12 +302,129 @@ public class WendyServiceImpl implements WendyService {
 
     @Override
     public String getChannelIdByVoteId(Long voteId) {
-        for (Map.Entry<String, Long> entry : channelVoteId.entrySet()) {
-            if (entry.getValue().equals(voteId)) {
-                return entry.getKey();
+        String channelId = sessionStore.findChannelIdByVoteId(voteId);
+        if (channelId != null) {
+            return channelId;
+        }
+
+        // 아직 복원되지 않은 채널 (재시작 직후 등): 투표에 저장된 channelId 로 찾은 뒤
+        // 해당 채널의 현재 투표가 맞는 경우에만 반환 (다른 노드가 담당하는 샤드의 채널이면 null)
+        channelId = voteService.getDiscordChannelId(voteId);
+        if (channelId == null) {
+            return null;
+        }
+        ChannelSession session = session(channelId);
+        return session != null && voteId.equals(session.voteId()) ? channelId : null;
+    }
+
+    @Override
+    public Long getVoteId(String channelId) {
+        ChannelSession session = session(channelId);
+        return session != null ? session.voteId() : null;
+    }
+
+    // 다른 노드로 넘어간 샤드의 채널 상태를 비움 (다시 lease 를 얻으면 DB 스냅샷에서 복원)
+    @EventListener
+    public void onShardOwnershipChanged(ShardOwnershipChangedEvent event) {
+        if (event.lost().isEmpty()) {
+            return;
+        }
+        sessionStore.evictIf(session -> event.lost().contains(session.shardId()));
+    }
+
+    // 메모리에 없으면 DB 스냅샷으로 복원, DB 오류나 다른 노드 샤드의 채널이면 null
+    private ChannelSession session(String channelId) {
+        return sessionStore.getOrLoad(channelId, this::load);
+    }
+
+    // 상태 변경은 현재 세션에서 새 세션을 만들어 compare-and-set 으로 교체하고 DB 에 write-through
+    // 복원에 실패하면 (DB 오류, 다른 노드 샤드의 채널) 빈 세션으로 진행하지 않고 예외로 명령을 실패시킴
+    private ChannelSessionStore.Transition update(String channelId, UnaryOperator<ChannelSession> change) {
+        return sessionStore.update(channelId, this::loadForUpdate, change, this::persist);
+    }
+
+    private ChannelSession loadForUpdate(String channelId) {
+        ChannelSession session = restore(channelId, sessionRepository.findById(channelId).orElse(null));
+        if (session == null) {
+            throw new IllegalStateException("Channel " + channelId + " belongs to a shard owned by another node");
+        }
+        return session;
+    }
+
+    private ChannelSession load(String channelId) {
+        try {
+            return restore(channelId, sessionRepository.findById(channelId).orElse(null));
+        } catch (Exception e) {
+            System.err.println("[When:D] Failed to restore session " + channelId + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // 메모리에 없는 채널들의 DB 스냅샷을 한 번에 복원 (실패하면 채널별 load 로 넘어감)
+    private void preload(Collection<String> channelIds) {
+        List<String> missing = channelIds.stream()
+                .filter(channelId -> sessionStore.find(channelId) == null)
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, BotChannelSession> snapshots = new HashMap<>();
+            sessionRepository.findAllById(missing).forEach(snapshot -> snapshots.put(snapshot.getChannelId(), snapshot));
+            for (String channelId : missing) {
+                sessionStore.getOrLoad(channelId, id -> restore(id, snapshots.get(id)));
             }
+        } catch (Exception e) {
+            System.err.println("[When:D] Failed to preload " + missing.size() + " sessions: " + e.getMessage());
+        }
+    }
+
+    // 스냅샷이 없다고 DB 에서 확인된 경우에만 빈 세션, 다른 노드 샤드의 채널이면 null (캐시하지 않음)
+    private ChannelSession restore(String channelId, BotChannelSession snapshot) {
+        if (snapshot == null) {
+            return ChannelSession.empty(channelId);
+        }
+        if (!shardAssignment.owns(snapshot.getShardId())) {
+            return null;
+        }
+        System.out.println("[When:D] Session restored: " + channelId);
+        return ChannelSession.restore(snapshot);
+    }
+
+    // 인메모리 상태를 DB 에 write-through (세션이 끝났으면 삭제), 채널별 순서는 ChannelSessionStore 가 보장
+    // 일시적인 DB 오류는 몇 번 다시 시도하고, 그래도 실패하면 예외를 던짐
+    // → ChannelSessionStore 가 메모리의 세션을 내리고(다음 접근 때 DB 에서 복원) 명령은 실패로 끝남
+    private void persist(ChannelSession session) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (!session.active()) {
+                    sessionRepository.deleteById(session.channelId());
+                } else {
+                    sessionRepository.save(session.toSnapshot());
+                }
+                return;
+            } catch (RuntimeException e) {
+                boolean giveUp = attempt >= PERSIST_ATTEMPTS;
+                meterRegistry.counter("wendy.session.persist.failures", "result", giveUp ? "failed" : "retried")
+                        .increment();
+                System.err.println("[When:D] Failed to persist session " + session.channelId()
+                        + " (attempt " + attempt + "/" + PERSIST_ATTEMPTS + "): " + e.getMessage());
+                if (giveUp || !backOff(attempt)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static boolean backOff(int attempt) {
+        try {
+            Thread.sleep(PERSIST_RETRY_BACKOFF_MILLIS * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
         }
-        return null;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package com.workingdead.chatbot.session;
+
+import com.workingdead.chatbot.entity.BotChannelSession;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 디스코드 채널 하나의 웬디 세션 상태 (불변)
+ * 상태 변경은 with* 로 새 객체를 만든 뒤 ChannelSessionStore 에서 compare-and-set 으로 교체
+ * → 한 번의 조회로 일관된 상태를 읽음 (여러 필드가 섞인 중간 상태를 보지 않음)
+ * active=false 인 세션은 "DB 에 세션 없음" 을 기억해 두는 용도 (채널마다 DB 를 다시 조회하지 않도록)
+ *
+ * @param participants 디스코드 참석자 (discordUserId -> displayName), 불변 맵
+ */
+public record ChannelSession(String channelId,
+                             int shardId,
+                             boolean active,
+                             Map<String, String> participants,
+                             Long voteId,
+                             String shareUrl,
+                             boolean hasVote,
+                             LocalDateTime voteCreatedAt,
+                             Integer voteWeeks) {
+
+    // 투표 마감 (투표 생성 후 24시간)
+    public static final Duration VOTE_DURATION = Duration.ofHours(24);
+
+    public ChannelSession {
+        participants = Map.copyOf(participants);
+    }
+
+    public static ChannelSession empty(String channelId) {
+        return new ChannelSession(channelId, 0, false, Map.of(), null, null, false, null, null);
+    }
+
+    public static ChannelSession restore(BotChannelSession snapshot) {
+        return new ChannelSession(
+                snapshot.getChannelId(),
+                snapshot.getShardId(),
+                snapshot.isActive(),
+                snapshot.getParticipants(),
+                snapshot.getVoteId(),
+                snapshot.getShareUrl(),
+                snapshot.isHasVote(),
+                snapshot.getVoteCreatedAt(),
+                snapshot.getVoteWeeks()
+        );
+    }
+
+    public BotChannelSession toSnapshot() {
+        return BotChannelSession.builder()
+                .channelId(channelId)
+                .shardId(shardId)
+                .active(active)
+                .participants(new HashMap<>(participants))
+                .voteId(voteId)
+                .shareUrl(shareUrl)
+                .hasVote(hasVote)
+                .voteCreatedAt(voteCreatedAt)
+                .voteWeeks(voteWeeks)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 새 세션 시작: 참석자/투표 초기화 (재투표 체크용 hasVote 는 유지)
+    public ChannelSession started(int shardId) {
+        return new ChannelSession(channelId, shardId, true, Map.of(), null, null, hasVote, null, null);
+    }
+
+    // 세션 종료: 모든 상태 초기화 (샤드만 유지)
+    public ChannelSession ended() {
+        return new ChannelSession(channelId, shardId, false, Map.of(), null, null, false, null, null);
+    }
+
+    public ChannelSession withParticipant(String memberId, String memberName) {
+        if (memberName.equals(participants.get(memberId))) {
+            return this;
+        }
+        Map<String, String> updated = new HashMap<>(participants);
+        updated.put(memberId, memberName);
+        return new ChannelSession(channelId, shardId, active, updated, voteId, shareUrl, hasVote,
+                voteCreatedAt, voteWeeks);
+    }
+
+    public ChannelSession withoutParticipant(String memberId) {
+        if (!participants.containsKey(memberId)) {
+            return this;
+        }
+        Map<String, String> updated = new HashMap<>(participants);
+        updated.remove(memberId);
+        return new ChannelSession(channelId, shardId, active, updated, voteId, shareUrl, hasVote,
+                voteCreatedAt, voteWeeks);
+    }
+
+    // 투표 생성 결과 반영 (이전 투표가 있었다면 교체)
+    public ChannelSession withVote(Long voteId, String shareUrl, LocalDateTime createdAt, int weeks) {
+        return new ChannelSession(channelId, shardId, active, participants, voteId, shareUrl, true,
+                createdAt, weeks);
+    }
+
+    public LocalDateTime voteDeadline() {
+        return voteCreatedAt != null ? voteCreatedAt.plus(VOTE_DURATION) : null;
+    }
+
+    // 대략적인 힙 사용량 (actuator 노출용 추정치)
+    public long estimateBytes() {
+        long bytes = 120 + 2L * channelId.length();
+        for (Map.Entry<String, String> participant : participants.entrySet()) {
+            bytes += 64 + 2L * (participant.getKey().length() + participant.getValue().length());
+        }
+        if (shareUrl != null) {
+            bytes += 40 + 2L * shareUrl.length();
+        }
+        return bytes;
+    }
+}
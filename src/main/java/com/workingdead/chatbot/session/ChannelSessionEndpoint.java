@@ -0,0 +1,24 @@
+package com.workingdead.chatbot.session;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/wendysessions : 인메모리 채널 세션 수와 추정 메모리 사용량
+ */
+@Component
+@Endpoint(id = "wendysessions")
+public class ChannelSessionEndpoint {
+
+    private final ChannelSessionStore sessionStore;
+
+    public ChannelSessionEndpoint(ChannelSessionStore sessionStore) {
+        this.sessionStore = sessionStore;
+    }
+
+    @ReadOperation
+    public ChannelSessionStore.SessionStats sessions() {
+        return sessionStore.stats();
+    }
+}
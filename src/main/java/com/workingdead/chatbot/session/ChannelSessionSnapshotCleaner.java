@@ -0,0 +1,49 @@
+package com.workingdead.chatbot.session;
+
+import com.workingdead.chatbot.gateway.ShardAssignment;
+import com.workingdead.chatbot.repository.BotChannelSessionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * bot_channel_session 스냅샷 정리
+ * ChannelSessionStore 의 축출은 메모리에서만 내리므로, 끝나지 않은 채 버려진 세션(종료 명령 없이 방치된 채널 등)의
+ * 스냅샷은 DB 에 계속 남음 → snapshot-ttl 동안 저장이 없었던 스냅샷을 이 노드가 맡은 샤드 범위에서 삭제
+ * 투표는 VOTE_DURATION 뒤에 마감되므로 snapshot-ttl 은 그보다 충분히 길게 둠
+ */
+@Component
+public class ChannelSessionSnapshotCleaner {
+
+    private final BotChannelSessionRepository sessionRepository;
+    private final ShardAssignment shardAssignment;
+    private final Duration snapshotTtl;
+
+    public ChannelSessionSnapshotCleaner(BotChannelSessionRepository sessionRepository,
+                                         ShardAssignment shardAssignment,
+                                         @Value("${wendy.session.snapshot-ttl:7d}") Duration snapshotTtl) {
+        this.sessionRepository = sessionRepository;
+        this.shardAssignment = shardAssignment;
+        this.snapshotTtl = snapshotTtl;
+    }
+
+    @Scheduled(fixedDelayString = "${wendy.session.snapshot-sweep-interval-ms:3600000}")
+    public void deleteStaleSnapshots() {
+        Set<Integer> shards = shardAssignment.getOwnedShards();
+        if (shards.isEmpty()) {
+            return;
+        }
+        try {
+            int deleted = sessionRepository.deleteStale(shards, LocalDateTime.now().minus(snapshotTtl));
+            if (deleted > 0) {
+                System.out.println("[When:D] Deleted " + deleted + " stale session snapshots");
+            }
+        } catch (Exception e) {
+            System.err.println("[When:D] Failed to delete stale session snapshots: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.workingdead.chatbot.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 채널별 세션 보관소 (channelId -> ChannelSession, 역방향 voteId -> channelId)
+ * - 세션은 불변 객체이고, 변경은 채널 슬롯의 AtomicReference 에 compare-and-set 으로 교체
+ * - DB 저장은 채널 슬롯 단위로 직렬화하고, 그 시점에 여전히 최신인 세션만 저장 (늦게 도착한 옛 상태가 덮어쓰지 않도록)
+ * - 축출도 같은 잠금을 잡으므로, 내려간 슬롯에 반영된 변경은 저장되지 않고 새로 로드한 슬롯에서 다시 적용됨
+ * - 투표 마감 후 ttl-after-deadline 동안, 투표가 없는 채널은 idle-ttl 동안 활동이 없으면 메모리에서 내림
+ * - 채널 수가 max-channels 를 넘으면 마지막 활동이 오래된 순으로 내림 (LRU)
+ * 내린 세션은 DB 스냅샷에 남아 있으므로 다음 접근 때 다시 복원됨 (오래된 스냅샷은 ChannelSessionSnapshotCleaner 가 정리)
+ */
+@Component
+public class ChannelSessionStore {
+
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    // 역방향 인덱스는 교체 이후 갱신되므로 잠깐 낡을 수 있음 → 조회 시 현재 세션으로 한 번 더 확인
+    private final Map<Long, String> voteChannelId = new ConcurrentHashMap<>();
+
+    private final long idleTtlMillis;
+    private final Duration ttlAfterDeadline;
+    private final int maxChannels;
+
+    public ChannelSessionStore(@Value("${wendy.session.idle-ttl:24h}") Duration idleTtl,
+                               @Value("${wendy.session.ttl-after-deadline:1h}") Duration ttlAfterDeadline,
+                               @Value("${wendy.session.max-channels:10000}") int maxChannels) {
+        this.idleTtlMillis = idleTtl.toMillis();
+        this.ttlAfterDeadline = ttlAfterDeadline;
+        this.maxChannels = maxChannels;
+    }
+
+    public ChannelSession find(String channelId) {
+        Slot slot = slots.get(channelId);
+        return slot != null ? slot.state.get() : null;
+    }
+
+    // loader 가 null 을 반환하면 보관하지 않음 (다음 접근 때 다시 로드)
+    public ChannelSession getOrLoad(String channelId, Function<String, ChannelSession> loader) {
+        Slot slot = slot(channelId, loader);
+        return slot != null ? slot.state.get() : null;
+    }
+
+    /**
+     * 현재 세션에 change 를 적용해 compare-and-set 으로 교체한 뒤 writer 로 저장
+     * 로드에 실패하면 아무것도 캐시하지 않음 (loader 의 예외는 그대로 전파, null 이면 IllegalStateException)
+     * → DB 에서 읽지 못한 빈 상태로 실제 세션을 덮어쓰지 않도록
+     * change 는 경합 시 다시 호출될 수 있으므로 부수효과가 없어야 함
+     * writer 는 채널별 잠금 안에서, 교체한 세션이 아직 최신일 때만 호출됨
+     * (더 새 세션으로 이미 바뀌었다면 그 변경을 만든 쪽이 저장하므로 건너뜀)
+     * writer 가 예외를 던지면 저장하지 못한 상태가 메모리에 남지 않도록 채널을 내리고 예외를 그대로 전파
+     * (다음 접근 때 DB 스냅샷에서 다시 읽음)
+     */
+    public Transition update(String channelId, Function<String, ChannelSession> loader,
+                             UnaryOperator<ChannelSession> change, Consumer<ChannelSession> writer) {
+        while (true) {
+            Slot slot = slot(channelId, loader);
+            if (slot == null) {
+                throw new IllegalStateException("Session not available on this node: " + channelId);
+            }
+
+            ChannelSession before;
+            ChannelSession after;
+            do {
+                before = slot.state.get();
+                after = change.apply(before);
+            } while (!slot.state.compareAndSet(before, after));
+
+            // 바뀐 게 없으면 저장하지 않음 (같은 이름으로 참석자 재등록 등)
+            if (after == before) {
+                return new Transition(before, after);
+            }
+
+            slot.writeLock.lock();
+            try {
+                // 교체하는 사이 슬롯이 내려갔다면 그 변경은 버리고, DB 에서 다시 읽은 슬롯에 다시 적용
+                if (slot.evicted) {
+                    continue;
+                }
+                indexVote(channelId, before, slot.state.get());
+                if (slot.state.get() == after) {
+                    try {
+                        writer.accept(after);
+                    } catch (RuntimeException e) {
+                        evict(channelId, slot);
+                        throw e;
+                    }
+                }
+                return new Transition(before, after);
+            } finally {
+                slot.writeLock.unlock();
+            }
+        }
+    }
+
+    // 역방향 인덱스를 잠금 안에서 현재 세션 기준으로 맞춤 (교체 순서와 잠금 순서가 달라도 최신 투표를 가리키도록)
+    private void indexVote(String channelId, ChannelSession before, ChannelSession current) {
+        if (before.voteId() != null && !before.voteId().equals(current.voteId())) {
+            voteChannelId.remove(before.voteId(), channelId);
+        }
+        if (current.voteId() != null) {
+            voteChannelId.put(current.voteId(), channelId);
+        }
+    }
+
+    public String findChannelIdByVoteId(Long voteId) {
+        String channelId = voteChannelId.get(voteId);
+        if (channelId == null) {
+            return null;
+        }
+        ChannelSession session = find(channelId);
+        if (session == null || !voteId.equals(session.voteId())) {
+            voteChannelId.remove(voteId, channelId);
+            return null;
+        }
+        return channelId;
+    }
+
+    public void evict(String channelId) {
+        Slot slot = slots.get(channelId);
+        if (slot != null) {
+            evict(channelId, slot);
+        }
+    }
+
+    // 진행 중인 저장이 끝난 뒤에 내림 → 내린 직후 다시 로드해도 방금 저장한 상태를 읽음
+    // 그 사이 다시 로드된 슬롯은 건드리지 않음
+    private void evict(String channelId, Slot slot) {
+        slot.writeLock.lock();
+        try {
+            slot.evicted = true;
+            if (slots.remove(channelId, slot) && slot.state.get().voteId() != null) {
+                voteChannelId.remove(slot.state.get().voteId(), channelId);
+            }
+        } finally {
+            slot.writeLock.unlock();
+        }
+    }
+
+    public void evictIf(Predicate<ChannelSession> condition) {
+        slots.forEach((channelId, slot) -> {
+            if (condition.test(slot.state.get())) {
+                evict(channelId);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${wendy.session.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        LocalDateTime nowDateTime = LocalDateTime.now();
+        slots.forEach((channelId, slot) -> {
+            if (isExpired(slot, now, nowDateTime)) {
+                evict(channelId);
+            }
+        });
+        if (slots.size() > maxChannels) {
+            evictOverflow();
+        }
+    }
+
+    public SessionStats stats() {
+        int active = 0;
+        int withVote = 0;
+        long participants = 0;
+        long bytes = 0;
+        long oldestActivityAt = Long.MAX_VALUE;
+        for (Slot slot : slots.values()) {
+            ChannelSession session = slot.state.get();
+            if (session.active()) {
+                active++;
+            }
+            if (session.voteId() != null) {
+                withVote++;
+            }
+            participants += session.participants().size();
+            bytes += session.estimateBytes();
+            oldestActivityAt = Math.min(oldestActivityAt, slot.lastActivityAt);
+        }
+        long oldestIdleSeconds = oldestActivityAt == Long.MAX_VALUE
+                ? 0 : (System.currentTimeMillis() - oldestActivityAt) / 1000;
+        return new SessionStats(slots.size(), active, withVote, participants, voteChannelId.size(),
+                bytes, oldestIdleSeconds, maxChannels);
+    }
+
+    // DB 로드는 맵 잠금(computeIfAbsent) 밖에서 → 느린 DB 가 같은 버킷의 다른 채널을 막거나 가상 스레드를 고정하지 않음
+    // 같은 채널을 동시에 로드했다면 먼저 넣은 슬롯을 씀
+    private Slot slot(String channelId, Function<String, ChannelSession> loader) {
+        Slot slot = slots.get(channelId);
+        if (slot == null) {
+            ChannelSession loaded = loader.apply(channelId);
+            if (loaded == null) {
+                return null;
+            }
+            Slot created = new Slot(loaded);
+            slot = slots.putIfAbsent(channelId, created);
+            if (slot == null) {
+                slot = created;
+                if (loaded.voteId() != null) {
+                    voteChannelId.put(loaded.voteId(), channelId);
+                }
+                if (slots.size() > maxChannels) {
+                    evictOverflow();
+                }
+            }
+        }
+        slot.lastActivityAt = System.currentTimeMillis();
+        return slot;
+    }
+
+    private boolean isExpired(Slot slot, long now, LocalDateTime nowDateTime) {
+        ChannelSession session = slot.state.get();
+        long idleMillis = now - slot.lastActivityAt;
+        LocalDateTime deadline = session.voteDeadline();
+        if (session.active() && session.voteId() != null && deadline != null) {
+            // 진행 중인 투표는 마감 + ttl-after-deadline 이 지나고, 그동안 활동도 없어야 내림
+            return nowDateTime.isAfter(deadline.plus(ttlAfterDeadline)) && idleMillis >= ttlAfterDeadline.toMillis();
+        }
+        return idleMillis >= idleTtlMillis;
+    }
+
+    // 상한의 90% 까지 오래된 순으로 내림 (삽입마다 정렬하지 않도록 여유를 둠)
+    private synchronized void evictOverflow() {
+        int target = (int) (maxChannels * 0.9);
+        int overflow = slots.size() - target;
+        if (overflow <= 0) {
+            return;
+        }
+        List<String> oldest = slots.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastActivityAt))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList();
+        oldest.forEach(this::evict);
+        System.out.println("[When:D] Session cap reached, evicted " + oldest.size() + " idle channels");
+    }
+
+    public record Transition(ChannelSession before, ChannelSession after) {
+    }
+
+    public record SessionStats(int channels, int activeSessions, int channelsWithVote, long participants,
+                               int voteBindings, long estimatedBytes, long oldestIdleSeconds, int maxChannels) {
+    }
+
+    private static final class Slot {
+        private final AtomicReference<ChannelSession> state;
+        // 저장/축출 직렬화 (저장 중 DB 대기로 가상 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock)
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private volatile boolean evicted;
+        private volatile long lastActivityAt = System.currentTimeMillis();
+
+        private Slot(ChannelSession session) {
+            this.state = new AtomicReference<>(session);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.workingdead.config;
+
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 DataSource 라우팅 힌트
+ * - 쓰기 시각(read-your-writes): 읽기-쓰기 트랜잭션이 커밋된 시각, 직후의 읽기를 primary 로 보내 복제 지연으로 인한 stale read 방지
+ *   호출자 단위로 관리 → 웹 요청은 ReadYourWritesFilter 가 요청 동안만 쿠키 값으로 바인딩하고, 커밋 시 쿠키를 갱신
+ *   바인딩이 없는 스레드(봇 작업 등)는 기록하지 않음 (스레드를 재사용하는 다른 작업이 primary 로 고정되지 않도록)
+ * - primary 고정 구간: 다른 스레드/노드에서 일어난 쓰기 직후의 읽기를 명시적으로 primary 로 보낼 때 사용
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<WriteScope> WRITE_SCOPE = new ThreadLocal<>();
+    private static final ThreadLocal<Integer> PRIMARY_PINNED = ThreadLocal.withInitial(() -> 0);
+
+    private DataSourceRoutingContext() {}
+
+    // lastWriteAt: 호출자가 마지막으로 쓰기를 커밋한 시각 (없으면 0), onWrite: 새 쓰기 커밋 시각을 호출자에게 돌려줄 곳
+    static void bind(long lastWriteAt, LongConsumer onWrite) {
+        WRITE_SCOPE.set(new WriteScope(lastWriteAt, onWrite));
+    }
+
+    static void unbind() {
+        WRITE_SCOPE.remove();
+    }
+
+    // 읽기-쓰기 트랜잭션 커밋 직후 호출 (ReplicaRoutingDataSource)
+    static void markWrite() {
+        WriteScope scope = WRITE_SCOPE.get();
+        if (scope == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        scope.lastWriteAt = now;
+        scope.onWrite.accept(now);
+    }
+
+    static boolean wroteWithin(long millis) {
+        WriteScope scope = WRITE_SCOPE.get();
+        return scope != null && scope.lastWriteAt > 0 && System.currentTimeMillis() - scope.lastWriteAt < millis;
+    }
+
+    static boolean isPrimaryPinned() {
+        return PRIMARY_PINNED.get() > 0;
+    }
+
+    // 블록 안에서 시작되는 읽기 전용 트랜잭션도 primary 로 라우팅
+    public static <T> T callOnPrimary(Supplier<T> work) {
+        PRIMARY_PINNED.set(PRIMARY_PINNED.get() + 1);
+        try {
+            return work.get();
+        } finally {
+            int depth = PRIMARY_PINNED.get() - 1;
+            if (depth == 0) {
+                PRIMARY_PINNED.remove();
+            } else {
+                PRIMARY_PINNED.set(depth);
+            }
+        }
+    }
+
+    public static void runOnPrimary(Runnable work) {
+        callOnPrimary(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private static final class WriteScope {
+        private long lastWriteAt;
+        private final LongConsumer onWrite;
+
+        private WriteScope(long lastWriteAt, LongConsumer onWrite) {
+            this.lastWriteAt = lastWriteAt;
+            this.onWrite = onWrite;
+        }
+    }
+}
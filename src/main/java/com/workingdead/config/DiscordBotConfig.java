@@ -1,45 +1,158 @@
 package com.workingdead.config;
 
 import com.workingdead.chatbot.command.WendyCommand;
+import com.workingdead.chatbot.executor.BotExecutor;
+import com.workingdead.chatbot.gateway.DiscordGateway;
+import com.workingdead.chatbot.gateway.ShardAssignment;
+import com.workingdead.chatbot.gateway.ShardLeaseManager;
+import com.workingdead.chatbot.gateway.ShardOwnershipChangedEvent;
 import jakarta.annotation.PreDestroy;
-import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.JDABuilder;
+import net.dv8tion.jda.api.exceptions.InvalidTokenException;
 import net.dv8tion.jda.api.requests.GatewayIntent;
+import net.dv8tion.jda.api.sharding.DefaultShardManagerBuilder;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import net.dv8tion.jda.api.utils.ChunkingFilter;
 import net.dv8tion.jda.api.utils.MemberCachePolicy;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 디스코드 봇 설정
+ * 컨텍스트가 준비된 뒤 별도 스레드에서 ShardManager 를 띄우므로 디스코드가 느리거나 닿지 않아도 REST API 는 정상 기동
+ * 봇 준비 상태는 actuator health 그룹 "bot" (DiscordBotHealthIndicator) 으로 확인
+ * 샤드는 discord.shards.total 로 나누고, 이 노드는 ShardLeaseManager 로 lease 를 얻은 샤드만 연결
+ */
 @Configuration
 public class DiscordBotConfig {
 
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5 * 60 * 1000L;
+
     @Value("${discord.token}")
     private String discordToken;
 
-    private JDA jda;
-
-    @Bean
-    public JDA jda(WendyCommand wendyCommand) throws Exception {
-        jda = JDABuilder.createDefault(discordToken)
-            .enableIntents(
-                GatewayIntent.GUILD_MESSAGES,
-                GatewayIntent.MESSAGE_CONTENT,
-                GatewayIntent.GUILD_MESSAGE_REACTIONS,
-                GatewayIntent.GUILD_MEMBERS
-            )
-            .setMemberCachePolicy(MemberCachePolicy.ALL)
-            .addEventListeners(wendyCommand)
-            .build()
-            .awaitReady();
-
-        System.out.println("[Wendy Bot] Started! Server count: " + jda.getGuilds().size());
-        return jda;
+    @Value("${discord.member-cache.lru-size:1000}")
+    private int memberCacheLruSize;
+
+    @Value("${discord.message-commands.enabled:false}")
+    private boolean messageCommandsEnabled;
+
+    private final WendyCommand wendyCommand;
+    private final DiscordGateway gateway;
+    private final ShardAssignment shardAssignment;
+    private final BotExecutor botExecutor;
+    private final ShardLeaseManager leaseManager;
+    private final ExecutorService starter = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "wendy-bot-starter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DiscordBotConfig(WendyCommand wendyCommand, DiscordGateway gateway, ShardAssignment shardAssignment,
+                            BotExecutor botExecutor, ShardLeaseManager leaseManager) {
+        this.wendyCommand = wendyCommand;
+        this.gateway = gateway;
+        this.shardAssignment = shardAssignment;
+        this.botExecutor = botExecutor;
+        this.leaseManager = leaseManager;
+    }
+
+    // lease 가 바뀔 때마다 샤드 연결/해제 (starter 스레드에서 순서대로 처리)
+    @EventListener
+    public void onShardOwnershipChanged(ShardOwnershipChangedEvent event) {
+        starter.execute(() -> applyOwnership(event));
+    }
+
+    private void applyOwnership(ShardOwnershipChangedEvent event) {
+        ShardManager shardManager = gateway.current();
+        if (shardManager == null) {
+            connect();
+            return;
+        }
+
+        for (int shardId : event.lost()) {
+            if (shardManager.getShardById(shardId) != null) {
+                shardManager.shutdown(shardId);
+                System.out.println("[Wendy Bot] Shard " + shardId + " released");
+            }
+        }
+        for (int shardId : event.acquired()) {
+            if (shardAssignment.owns(shardId) && shardManager.getShardById(shardId) == null) {
+                shardManager.start(shardId);
+                System.out.println("[Wendy Bot] Shard " + shardId + " taken over");
+            }
+        }
+    }
+
+    private void connect() {
+        long backoffMillis = 5000;
+        while (!Thread.currentThread().isInterrupted()) {
+            Set<Integer> shards = shardAssignment.getOwnedShards();
+            if (shards.isEmpty()) {
+                return;
+            }
+            try {
+                gateway.attach(buildShardManager(shards));
+                System.out.println("[Wendy Bot] Connecting shards " + new TreeSet<>(shards) + " of "
+                        + shardAssignment.getTotalShards() + " (" + leaseManager.getOwnerId() + ")...");
+                return;
+            } catch (InvalidTokenException e) {
+                System.err.println("[Wendy Bot] Invalid token, bot disabled: " + e.getMessage());
+                return;
+            } catch (Exception e) {
+                System.err.println("[Wendy Bot] Failed to start, retry in " + backoffMillis + "ms: " + e.getMessage());
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_RETRY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private ShardManager buildShardManager(Set<Integer> shards) {
+        // 멤버 캐시: 음성 채널 참여자 + 서버 소유자 + 최근 상호작용한 멤버(LRU)만 유지
+        // 전체 멤버 청킹은 하지 않음 (셀렉트 메뉴/슬래시 상호작용은 payload 에 멤버 정보가 포함되고, 빠진 멤버만 retrieveMember 로 조회)
+        MemberCachePolicy memberCachePolicy = MemberCachePolicy.VOICE
+                .or(MemberCachePolicy.OWNER)
+                .or(MemberCachePolicy.lru(memberCacheLruSize).unloadUnless(MemberCachePolicy.VOICE));
+
+        DefaultShardManagerBuilder builder = DefaultShardManagerBuilder.createDefault(discordToken)
+            .setShardsTotal(shardAssignment.getTotalShards())
+            .setShards(shards)
+            .enableIntents(GatewayIntent.GUILD_MESSAGE_REACTIONS);
+
+        // 명령은 슬래시 커맨드(interaction)로 받으므로 채팅 메시지 이벤트는 fallback 을 켠 경우에만 구독
+        if (messageCommandsEnabled) {
+            builder.enableIntents(GatewayIntent.GUILD_MESSAGES, GatewayIntent.MESSAGE_CONTENT);
+        } else {
+            builder.disableIntents(GatewayIntent.GUILD_MESSAGES, GatewayIntent.GUILD_MESSAGE_TYPING,
+                    GatewayIntent.MESSAGE_CONTENT);
+        }
+
+        return builder
+            .setMemberCachePolicy(memberCachePolicy)
+            .setChunkingFilter(ChunkingFilter.NONE)
+            // 이벤트 리스너는 BotExecutor(기본 가상 스레드)에서 실행, 실행기 종료는 BotExecutor 가 담당
+            .setEventPool(botExecutor.executor(), false)
+            .addEventListeners(wendyCommand, gateway)
+            .build();
     }
 
+    // ShardLeaseManager 보다 먼저 종료되므로 연결을 끊은 뒤에 lease 가 반납됨
+    // 대기 중인 공유/발신 메시지는 그 전에 DiscordBotShutdown 에서 비움
     @PreDestroy
     public void shutdown() {
-        if (jda != null) {
-            jda.shutdown();
+        starter.shutdownNow();
+        ShardManager shardManager = gateway.detach();
+        if (shardManager != null) {
+            shardManager.shutdown();
             System.out.println("[Wendy Bot] Shutdown");
         }
     }
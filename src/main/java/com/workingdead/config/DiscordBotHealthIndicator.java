@@ -0,0 +1,33 @@
+package com.workingdead.config;
+
+import com.workingdead.chatbot.gateway.DiscordGateway;
+import com.workingdead.chatbot.gateway.ShardAssignment;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 디스코드 봇 연결 상태 (health 그룹 "bot")
+ * 웹 readiness 그룹에는 포함하지 않으므로 봇이 준비되지 않아도 REST API 는 트래픽을 받음
+ */
+@Component
+public class DiscordBotHealthIndicator implements HealthIndicator {
+
+    private final DiscordGateway gateway;
+    private final ShardAssignment shardAssignment;
+
+    public DiscordBotHealthIndicator(DiscordGateway gateway, ShardAssignment shardAssignment) {
+        this.gateway = gateway;
+        this.shardAssignment = shardAssignment;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = gateway.isReady() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("leasedShards", shardAssignment.getOwnedShards())
+                .withDetail("shards", gateway.getShardStatuses())
+                .withDetail("guilds", gateway.getGuildCount())
+                .build();
+    }
+}
@@ -0,0 +1,111 @@
+package com.workingdead.config;
+
+import com.workingdead.chatbot.command.WendyCommand;
+import com.workingdead.chatbot.executor.GuildFairScheduler;
+import com.workingdead.chatbot.gateway.DiscordGateway;
+import com.workingdead.chatbot.outbound.OutboundMessageDispatcher;
+import com.workingdead.chatbot.scheduler.ReminderDispatcher;
+import com.workingdead.chatbot.scheduler.ReminderQueue;
+import com.workingdead.chatbot.service.VoteStatusShareDebouncer;
+import net.dv8tion.jda.api.sharding.ShardManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 디스코드 봇 순차 종료
+ * 1. 새 명령 이벤트와 알림 발송을 멈추고, 아직 발송하지 않은 알림은 bot_reminder 에 넘김
+ * 2. 이미 가져간 알림이 길드 큐에 들어갈 때까지, 디바운스 중인 투표 현황 공유를 바로 실행한 뒤 길드 큐가 빌 때까지 기다림
+ * 3. 발신 메시지 큐를 비움
+ * 2, 3 은 합쳐서 wendy.shutdown.drain-timeout 안에서만 기다림
+ * 웹 graceful shutdown(진행 중인 투표 제출 요청 처리) 이후, 빈 소멸(@PreDestroy: 게이트웨이 연결 종료, lease 반납) 이전에 실행
+ */
+@Component
+public class DiscordBotShutdown implements SmartLifecycle {
+
+    // 웹 서버 graceful shutdown 단계(DEFAULT_PHASE - 1024) 다음, 웹 서버 종료 단계(DEFAULT_PHASE - 2048) 이전
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 1536;
+
+    private final DiscordGateway gateway;
+    private final WendyCommand wendyCommand;
+    private final ReminderQueue reminderQueue;
+    private final ReminderDispatcher reminderDispatcher;
+    private final VoteStatusShareDebouncer shareDebouncer;
+    private final GuildFairScheduler fairScheduler;
+    private final OutboundMessageDispatcher outbound;
+    private final Duration drainTimeout;
+
+    private volatile boolean running;
+
+    public DiscordBotShutdown(DiscordGateway gateway,
+                              WendyCommand wendyCommand,
+                              ReminderQueue reminderQueue,
+                              ReminderDispatcher reminderDispatcher,
+                              VoteStatusShareDebouncer shareDebouncer,
+                              GuildFairScheduler fairScheduler,
+                              OutboundMessageDispatcher outbound,
+                              @Value("${wendy.shutdown.drain-timeout:10s}") Duration drainTimeout) {
+        this.gateway = gateway;
+        this.wendyCommand = wendyCommand;
+        this.reminderQueue = reminderQueue;
+        this.reminderDispatcher = reminderDispatcher;
+        this.shareDebouncer = shareDebouncer;
+        this.fairScheduler = fairScheduler;
+        this.outbound = outbound;
+        this.drainTimeout = drainTimeout;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        long startedAt = System.nanoTime();
+        System.out.println("[Wendy Bot] Draining before shutdown...");
+
+        // 1. 새 작업 유입 차단
+        ShardManager shardManager = gateway.current();
+        if (shardManager != null) {
+            shardManager.removeEventListener(wendyCommand);
+        }
+        reminderQueue.handOff();
+
+        // 2. 가져간 알림의 일괄 조회/타이밍 휠 콜백 → 공유 대기분 실행 → 길드 큐 소진
+        if (!reminderDispatcher.awaitPending(drainTimeout)) {
+            System.err.println("[Wendy Bot] Reminder batches not drained in time (pending="
+                    + reminderDispatcher.getPending() + ")");
+        }
+        shareDebouncer.flushPending();
+        if (!fairScheduler.awaitIdle(remaining(startedAt))) {
+            System.err.println("[Wendy Bot] Guild queues not drained in time (queued=" + fairScheduler.getQueued()
+                    + ", inFlight=" + fairScheduler.getInFlight() + ")");
+        }
+
+        // 3. 남은 시간 안에서 발신 큐 비우기 (실제 전송은 ShardManager 종료 시 JDA 가 마무리)
+        int unsent = outbound.drain(remaining(startedAt));
+        if (unsent > 0) {
+            System.err.println("[Wendy Bot] " + unsent + " outbound messages dropped at shutdown");
+        }
+        System.out.println("[Wendy Bot] Drained in " + Duration.ofNanos(System.nanoTime() - startedAt).toMillis() + "ms");
+    }
+
+    private Duration remaining(long startedAt) {
+        Duration remaining = drainTimeout.minusNanos(System.nanoTime() - startedAt);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,79 @@
+package com.workingdead.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * read-your-writes 구간을 요청 스레드가 아니라 호출자(브라우저) 단위로 유지
+ * - 쓰기 커밋 시각을 쿠키로 내려주고, 다음 요청이 어느 스레드/노드로 오든 그 쿠키로 구간을 복원
+ * - 구간은 요청 동안만 스레드에 바인딩 → 같은 스레드를 재사용하는 다른 요청에는 영향 없음
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "wendy_last_write";
+
+    private final Duration readYourWritesWindow;
+
+    public ReadYourWritesFilter(
+            @Value("${app.datasource.replica.read-your-writes-window:2s}") Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        DataSourceRoutingContext.bind(lastWriteAt(request), writtenAt -> writeCookie(request, response, writtenAt));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            DataSourceRoutingContext.unbind();
+        }
+    }
+
+    private static long lastWriteAt(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    // 응답 본문을 쓰기 전(서비스 트랜잭션 커밋 시점)에 호출됨, 이미 커밋된 응답이면 건너뜀
+    private void writeCookie(HttpServletRequest request, HttpServletResponse response, long writtenAt) {
+        if (response.isCommitted()) {
+            return;
+        }
+        // 프론트가 다른 도메인이라 HTTPS 에서는 SameSite=None 이어야 credentials 요청에 실림
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(writtenAt))
+                .path("/")
+                .httpOnly(true)
+                .maxAge(readYourWritesWindow)
+                .secure(request.isSecure())
+                .sameSite(request.isSecure() ? "None" : "Lax")
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
@@ -0,0 +1,69 @@
+package com.workingdead.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica, 그 외(쓰기/트랜잭션 밖)는 primary 로 보내는 라우팅 DataSource
+ * 트랜잭션의 readOnly 플래그가 정해진 뒤에 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+ * 쓰기 시각은 읽기-쓰기 트랜잭션이 커밋된 뒤에만 남김 (트랜잭션 밖의 조회나 롤백된 트랜잭션은 replica 읽기를 막지 않음)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    // 트랜잭션마다 커밋 콜백을 한 번만 등록하기 위한 리소스 키
+    private static final Object WRITE_ON_COMMIT = new Object();
+
+    private final long readYourWritesMillis;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration readYourWritesWindow) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Route.PRIMARY, primary);
+        targets.put(Route.REPLICA, replica);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        this.readYourWritesMillis = readYourWritesWindow.toMillis();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteOnCommit();
+            return Route.PRIMARY;
+        }
+
+        // 방금 쓰기를 커밋한 호출자의 읽기는 복제 지연 동안 primary 에서 처리
+        if (DataSourceRoutingContext.isPrimaryPinned()
+                || DataSourceRoutingContext.wroteWithin(readYourWritesMillis)) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    private static void markWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_ON_COMMIT)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_ON_COMMIT, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                DataSourceRoutingContext.markWrite();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_ON_COMMIT);
+            }
+        });
+    }
+}
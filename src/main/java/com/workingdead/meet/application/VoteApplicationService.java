@@ -1,25 +1,26 @@
 package com.workingdead.meet.application;
 
-import com.workingdead.chatbot.scheduler.WendyScheduler;
-import com.workingdead.chatbot.service.WendyNotifier;
-import com.workingdead.chatbot.service.WendyService;
+import com.workingdead.chatbot.event.VoteChangeBus;
+import com.workingdead.chatbot.event.VoteChangedEvent;
 import com.workingdead.meet.dto.ParticipantDtos.ParticipantScheduleRes;
 import com.workingdead.meet.dto.ParticipantDtos.SubmitScheduleReq;
 import com.workingdead.meet.service.ParticipantService;
+import com.workingdead.meet.service.VoteProgressService;
+import com.workingdead.meet.service.VoteService;
 import lombok.RequiredArgsConstructor;
-import net.dv8tion.jda.api.JDA;
-import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 public class VoteApplicationService {
 
     private final ParticipantService participantService;
-    private final WendyService wendyService;
-    private final WendyNotifier wendyNotifier;
-    private final JDA jda;
+    private final VoteProgressService voteProgressService;
+    private final VoteService voteService;
+    private final VoteChangeBus voteChangeBus;
 
     @Transactional
     public ParticipantScheduleRes submitSchedule(Long participantId, SubmitScheduleReq req) {
@@ -33,21 +34,31 @@ public class VoteApplicationService {
             return res;
         }
 
-        // 3) voteId -> channelId 매핑 (WendyService 관리)
-        String channelId = wendyService.getChannelIdByVoteId(voteId);
-        if (channelId == null || channelId.isBlank()) {
+        // 3) 커밋 후 vote-changed 발행 (채널/봇 연결을 가진 노드가 받아서 현황 공유)
+        // 채널 id 를 함께 실어 구독 노드마다 DB 로 채널을 찾지 않도록 함
+        long version = voteProgressService.getResultVersion(voteId);
+        String channelId = voteService.getDiscordChannelId(voteId);
+        if (channelId == null) {
+            // 디스코드 채널 없이 만든 투표는 공유할 곳이 없음
             return res;
         }
-
-        // 4) JDA로 TextChannel 조회
-        TextChannel channel = jda.getTextChannelById(channelId);
-        if (channel != null) {
-            // 5) 디스코드에 즉시 최신 투표 현황 공유
-            wendyNotifier.shareVoteStatus(channel);
-        }
+        publishAfterCommit(new VoteChangedEvent(voteId, version, channelId));
 
         return res;
     }
 
+    private void publishAfterCommit(VoteChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            voteChangeBus.publish(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                voteChangeBus.publish(event);
+            }
+        });
+    }
+
 
 }
@@ -1,31 +1,66 @@
 package com.workingdead.meet.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.workingdead.meet.dto.VoteDateRangeDtos.DateSlotDto;
 import com.workingdead.meet.service.VoteDateRangeService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
 
 @Tag(name = "Vote", description = "투표 관련 API")
 @RestController
 @RequestMapping("/votes")
 public class VoteDateRangeController {
     private final VoteDateRangeService voteDateRangeService;
+    private final ObjectMapper objectMapper;
 
-    public VoteDateRangeController(VoteDateRangeService voteDateRangeService) {
+    public VoteDateRangeController(VoteDateRangeService voteDateRangeService, ObjectMapper objectMapper) {
         this.voteDateRangeService = voteDateRangeService;
+        this.objectMapper = objectMapper;
     }
 
-    @Operation(summary = "투표 날짜 범위 조회 (날짜별 LUNCH/ DINNER 슬롯 제공)")
+    @Operation(
+            summary = "투표 날짜 범위 조회 (날짜별 LUNCH/ DINNER 슬롯 제공)",
+            description = "fromWeek/weeks 를 주면 startDate 기준 주 단위로 잘라서 반환합니다. 응답은 날짜 단위로 스트리밍됩니다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = DateSlotDto.class))))
     @GetMapping("/{voteId}/dateRange")
-    public ResponseEntity<List<DateSlotDto>> getDateRange(
+    public ResponseEntity<StreamingResponseBody> getDateRange(
             @PathVariable Long voteId,
-            @RequestParam(required = false) Long participantId // optional
+            @RequestParam(required = false) Long participantId, // optional
+            @RequestParam(required = false) Integer fromWeek,
+            @RequestParam(required = false) Integer weeks
     ) {
-        List<DateSlotDto> slots = voteDateRangeService.getDateRangeSlots(voteId, participantId);
-        return ResponseEntity.ok(slots);
+        Stream<DateSlotDto> slots = voteDateRangeService.streamDateRangeSlots(voteId, participantId, fromWeek, weeks);
+
+        StreamingResponseBody body = out -> {
+            try (slots; JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+                gen.writeStartArray();
+                slots.forEach(slot -> {
+                    try {
+                        gen.writeObject(slot);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                gen.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
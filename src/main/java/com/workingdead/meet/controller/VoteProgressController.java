@@ -0,0 +1,26 @@
+package com.workingdead.meet.controller;
+
+import com.workingdead.meet.dto.VoteProgressDtos;
+import com.workingdead.meet.service.VoteProgressService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/votes")
+@RequiredArgsConstructor
+public class VoteProgressController {
+
+    private final VoteProgressService voteProgressService;
+
+    @Operation(
+            summary = "투표 진행 현황 조회",
+            description = "전체 참여자 수, 제출 인원, 첫/마지막 제출 시각을 반환합니다. " +
+                          "참여자 목록을 읽지 않고 카운터로 응답하므로 진행바 폴링에 사용합니다."
+    )
+    @GetMapping("/{voteId}/progress")
+    public ResponseEntity<VoteProgressDtos.VoteProgressRes> getProgress(@PathVariable Long voteId) {
+        return ResponseEntity.ok(voteProgressService.getProgress(voteId));
+    }
+}
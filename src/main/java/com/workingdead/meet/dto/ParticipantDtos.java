@@ -19,6 +19,12 @@ public class ParticipantDtos {
             boolean submitted
     ) {}
 
+    // 미제출 참여자의 디스코드 id (여러 투표 일괄 조회용)
+    public record UnsubmittedDiscordUserRes(
+            Long voteId,
+            String discordUserId
+    ) {}
+
 
     // 일정 제출 요청
     public record SubmitScheduleReq(
@@ -0,0 +1,16 @@
+package com.workingdead.meet.dto;
+
+import java.time.LocalDateTime;
+
+public class VoteProgressDtos {
+
+    // 투표 진행 현황 (프론트 진행바 / 봇 미투표자 체크용)
+    public record VoteProgressRes(
+            Long voteId,
+            int totalParticipants,
+            int submittedCount,
+            boolean allSubmitted,
+            LocalDateTime firstSubmittedAt,
+            LocalDateTime lastSubmittedAt
+    ) {}
+}
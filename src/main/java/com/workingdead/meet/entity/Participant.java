@@ -13,7 +13,8 @@ import java.util.List;
 @AllArgsConstructor 
 @Builder
 @Entity
-@Table(name = "participant")
+@Table(name = "participant",
+       indexes = @Index(name = "idx_participant_vote_id", columnList = "vote_id"))
 public class Participant {
     
     @Id 
@@ -31,6 +32,10 @@ public class Participant {
     private LocalDateTime submittedAt;
     
     private Boolean submitted;
+
+    // 웬디 봇으로 추가된 경우 디스코드 유저 id
+    @Column(name = "discord_user_id", length = 32)
+    private String discordUserId;
     
     // 일정 선택 정보
     @OneToMany(mappedBy = "participant", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -62,6 +62,9 @@ import java.time.LocalDate;
 @Table(name = "participant_selection",
        uniqueConstraints = {
            @UniqueConstraint(columnNames = {"vote_id", "participant_id", "date", "period"})
+       },
+       indexes = {
+           @Index(name = "idx_participant_selection_participant_id", columnList = "participant_id")
        })
 public class ParticipantSelection {
     
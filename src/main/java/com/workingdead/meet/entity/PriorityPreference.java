@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
 @Table(name = "priority_preference",
        uniqueConstraints = {
            @UniqueConstraint(columnNames = {"participant_id", "vote_id", "date", "period", "priority_index"})
+       },
+       indexes = {
+           @Index(name = "idx_priority_preference_vote_id", columnList = "vote_id")
        })
 public class PriorityPreference {
     
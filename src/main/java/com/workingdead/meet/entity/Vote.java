@@ -27,6 +27,10 @@ public class Vote {
     private LocalDate endDate; // 선택 범위 끝
 
 
+    @Column(name = "discord_channel_id", length = 32)
+    private String discordChannelId; // 웬디 봇으로 생성된 경우 디스코드 채널 id
+
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt = Instant.now();
 
@@ -0,0 +1,40 @@
+package com.workingdead.meet.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 투표 진행 카운터 (vote 당 1행)
+ * 참여자 row 를 읽지 않고 "모두 제출했는지" 를 판단하기 위한 용도
+ * resultVersion 은 투표 결과에 영향을 주는 변경마다 증가 (봇 메시지 렌더링 캐시 키)
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "vote_progress")
+public class VoteProgress {
+
+    @Id
+    @Column(name = "vote_id")
+    private Long voteId;
+
+    @Column(name = "total_participants", nullable = false)
+    private int totalParticipants;
+
+    @Column(name = "submitted_count", nullable = false)
+    private int submittedCount;
+
+    @Column(name = "first_submitted_at")
+    private LocalDateTime firstSubmittedAt;
+
+    @Column(name = "last_submitted_at")
+    private LocalDateTime lastSubmittedAt;
+
+    @Column(name = "result_version", nullable = false)
+    private long resultVersion;
+}
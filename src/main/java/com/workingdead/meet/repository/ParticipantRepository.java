@@ -1,13 +1,48 @@
 package com.workingdead.meet.repository;
 
+import com.workingdead.meet.dto.ParticipantDtos;
 import com.workingdead.meet.entity.Participant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
 
 
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
     List<Participant> findByVoteId(Long voteId);
+
+    // 상태 조회 전용 DTO 프로젝션 (엔티티/스냅샷 없이 id, 이름, 제출 여부만 조회)
+    @Query("SELECT new com.workingdead.meet.dto.ParticipantDtos$ParticipantStatusRes(p.id, p.displayName, COALESCE(p.submitted, false)) " +
+           "FROM Participant p WHERE p.vote.id = :voteId")
+    List<ParticipantDtos.ParticipantStatusRes> findStatusByVoteId(@Param("voteId") Long voteId);
+
+    @Query("SELECT new com.workingdead.meet.dto.ParticipantDtos$ParticipantStatusRes(p.id, p.displayName, COALESCE(p.submitted, false)) " +
+           "FROM Participant p WHERE p.id = :participantId")
+    Optional<ParticipantDtos.ParticipantStatusRes> findStatusById(@Param("participantId") Long participantId);
+
+    // 미제출 참여자의 디스코드 id (봇 미투표자 독촉용)
+    @Query("SELECT p.discordUserId FROM Participant p " +
+           "WHERE p.vote.id = :voteId AND p.discordUserId IS NOT NULL " +
+           "AND (p.submitted IS NULL OR p.submitted = false)")
+    List<String> findUnsubmittedDiscordUserIds(@Param("voteId") Long voteId);
+
+    // 여러 투표의 미제출 참여자를 한 번에 조회 (같은 시각에 몰린 독촉 알림용)
+    @Query("SELECT new com.workingdead.meet.dto.ParticipantDtos$UnsubmittedDiscordUserRes(p.vote.id, p.discordUserId) " +
+           "FROM Participant p " +
+           "WHERE p.vote.id IN :voteIds AND p.discordUserId IS NOT NULL " +
+           "AND (p.submitted IS NULL OR p.submitted = false)")
+    List<ParticipantDtos.UnsubmittedDiscordUserRes> findUnsubmittedDiscordUserIdsByVoteIds(
+            @Param("voteIds") Collection<Long> voteIds);
+
+    // 미제출 → 제출 전환 (row 단위 원자적 갱신, 이미 제출한 참여자면 0)
+    @Modifying
+    @Query("UPDATE Participant p SET p.submitted = true " +
+           "WHERE p.id = :participantId AND (p.submitted IS NULL OR p.submitted = false)")
+    int markSubmitted(@Param("participantId") Long participantId);
 }
@@ -2,6 +2,7 @@ package com.workingdead.meet.repository;
 
 import com.workingdead.meet.entity.ParticipantSelection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,7 +13,21 @@ public interface ParticipantSelectionRepository extends JpaRepository<Participan
     List<ParticipantSelection> findByVoteId(Long voteId);
     List<ParticipantSelection> findByVoteIdAndParticipantId(Long voteId, Long participantId);
 
+    // 참여자 선택 조회용 프로젝션 (필요한 컬럼만 조회)
+    List<SelectionView> findByParticipantIdOrderByIdAsc(Long participantId);
+
+    // 날짜 그리드 페이지 범위만 조회
+    List<SelectionView> findByVoteIdAndDateBetween(Long voteId, LocalDate from, LocalDate to);
+    List<SelectionView> findByVoteIdAndParticipantIdAndDateBetween(Long voteId, Long participantId, LocalDate from, LocalDate to);
+
     @Modifying
     @Query("DELETE FROM ParticipantSelection ps WHERE ps.participant.id = :participantId")
     void deleteByParticipantId(@Param("participantId") Long participantId);
+
+    interface SelectionView {
+        Long getId();
+        LocalDate getDate();
+        String getPeriod();
+        boolean isSelected();
+    }
 }
@@ -3,6 +3,7 @@ package com.workingdead.meet.repository;
 import com.workingdead.meet.entity.PriorityPreference;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,9 +13,20 @@ import org.springframework.data.repository.query.Param;
 public interface PriorityPreferenceRepository extends JpaRepository<PriorityPreference, Long> {
     List<PriorityPreference> findByParticipantIdAndVoteId(Long participantId, Long voteId);
     List<PriorityPreference> findByVoteId(Long voteId); 
+
+    // 참여자 우선순위 조회용 프로젝션 (priorityIndex 오름차순)
+    List<PriorityView> findByParticipantIdOrderByPriorityIndexAsc(Long participantId);
     
     // void deleteByParticipantIdAndVoteId(Long participantId, Long voteId);
     @Modifying
     @Query("DELETE FROM PriorityPreference pp WHERE pp.participant.id = :participantId")
     void deleteByParticipantId(@Param("participantId") Long participantId);
+
+    interface PriorityView {
+        Long getId();
+        LocalDate getDate();
+        String getPeriod();
+        Integer getPriorityIndex();
+        Double getWeight();
+    }
 }
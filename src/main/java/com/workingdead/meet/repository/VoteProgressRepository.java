@@ -0,0 +1,41 @@
+package com.workingdead.meet.repository;
+
+import com.workingdead.meet.entity.VoteProgress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface VoteProgressRepository extends JpaRepository<VoteProgress, Long> {
+
+    // 참여자 추가/삭제 시 카운터 조정 (row 단위 원자적 갱신)
+    @Modifying
+    @Query("UPDATE VoteProgress vp SET vp.totalParticipants = vp.totalParticipants + :totalDelta, " +
+           "vp.submittedCount = vp.submittedCount + :submittedDelta, " +
+           "vp.resultVersion = vp.resultVersion + 1 WHERE vp.voteId = :voteId")
+    int adjustCounts(@Param("voteId") Long voteId,
+                     @Param("totalDelta") int totalDelta,
+                     @Param("submittedDelta") int submittedDelta);
+
+    // 제출 기록 (재제출이면 submittedIncrement = 0 으로 시각만 갱신)
+    @Modifying
+    @Query("UPDATE VoteProgress vp SET vp.submittedCount = vp.submittedCount + :submittedIncrement, " +
+           "vp.firstSubmittedAt = COALESCE(vp.firstSubmittedAt, :submittedAt), " +
+           "vp.lastSubmittedAt = :submittedAt, " +
+           "vp.resultVersion = vp.resultVersion + 1 WHERE vp.voteId = :voteId")
+    int recordSubmission(@Param("voteId") Long voteId,
+                         @Param("submittedIncrement") int submittedIncrement,
+                         @Param("submittedAt") LocalDateTime submittedAt);
+
+    // 영속성 컨텍스트가 아닌 DB 값을 읽음 (같은 트랜잭션의 bulk update 반영)
+    @Query("SELECT vp.resultVersion FROM VoteProgress vp WHERE vp.voteId = :voteId")
+    Optional<Long> findResultVersionById(@Param("voteId") Long voteId);
+
+    // 카운터 변화 없이 결과만 바뀌는 경우 (우선순위/이름/기간 변경)
+    @Modifying
+    @Query("UPDATE VoteProgress vp SET vp.resultVersion = vp.resultVersion + 1 WHERE vp.voteId = :voteId")
+    int bumpResultVersion(@Param("voteId") Long voteId);
+}
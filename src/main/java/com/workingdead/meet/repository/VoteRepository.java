@@ -2,9 +2,14 @@ package com.workingdead.meet.repository;
 
 import com.workingdead.meet.entity.Vote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 
 public interface VoteRepository extends JpaRepository<Vote, Long> {
     Optional<Vote> findByCode(String code);
+
+    @Query("SELECT v.discordChannelId FROM Vote v WHERE v.id = :voteId")
+    Optional<String> findDiscordChannelIdById(@Param("voteId") Long voteId);
 }
@@ -8,6 +8,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.List;
 import java.util.ArrayList;
@@ -24,6 +26,7 @@ public class ParticipantService {
     private final VoteRepository voteRepo;
     private final ParticipantSelectionRepository selectionRepo;      // 추가!
     private final PriorityPreferenceRepository priorityRepo;         // 추가!
+    private final VoteProgressRepository progressRepo;
     private static final String CODE_ALPHABET = "abcdefghijkmnopqrstuvwxyz23456789";
     private final SecureRandom rnd = new SecureRandom();
 
@@ -32,18 +35,27 @@ public class ParticipantService {
             ParticipantRepository participantRepo, 
             VoteRepository voteRepo,
             ParticipantSelectionRepository selectionRepo,            // 추가!
-            PriorityPreferenceRepository priorityRepo) {             // 추가!
+            PriorityPreferenceRepository priorityRepo,               // 추가!
+            VoteProgressRepository progressRepo) {
         this.participantRepo = participantRepo; 
         this.voteRepo = voteRepo;
         this.selectionRepo = selectionRepo;                          // 추가!
         this.priorityRepo = priorityRepo;                            // 추가!
+        this.progressRepo = progressRepo;
     }
 
     public ParticipantDtos.ParticipantRes add(Long voteId, String displayName) {
+        return add(voteId, displayName, null);
+    }
+
+    // 디스코드 참석자로 추가 (discordUserId 로 미투표자 판별)
+    public ParticipantDtos.ParticipantRes add(Long voteId, String displayName, String discordUserId) {
         Vote v = voteRepo.findById(voteId)
                         .orElseThrow(() -> new NoSuchElementException("vote not found"));
         Participant p = new Participant(v, displayName);
+        p.setDiscordUserId(discordUserId);
         participantRepo.save(p);
+        progressRepo.adjustCounts(voteId, 1, 0);
         return new ParticipantDtos.ParticipantRes(p.getId(), p.getDisplayName(), false);
     }
 
@@ -54,6 +66,7 @@ public class ParticipantService {
         // displayName 수정 (null이 아닌 경우만)
         if (request.displayName() != null && !request.displayName().isBlank()) {
             participant.setDisplayName(request.displayName());
+            progressRepo.bumpResultVersion(participant.getVote().getId());
         }
 
         Participant saved = participantRepo.save(participant);
@@ -65,14 +78,26 @@ public class ParticipantService {
         );
     }
 
+    @Transactional(readOnly = true)
     public List<ParticipantDtos.ParticipantStatusRes> getParticipantStatusByVoteId(Long voteId) {
-        return participantRepo.findByVoteId(voteId).stream()
-                .map(p -> new ParticipantDtos.ParticipantStatusRes(
-                        p.getId(),
-                        p.getDisplayName(),
-                        Boolean.TRUE.equals(p.getSubmitted())
-                ))
-                .toList();
+        return participantRepo.findStatusByVoteId(voteId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> getUnsubmittedDiscordUserIds(Long voteId) {
+        return participantRepo.findUnsubmittedDiscordUserIds(voteId);
+    }
+
+    // voteId -> 미제출 참여자 discordId (미제출자가 없는 투표는 키 없음)
+    @Transactional(readOnly = true)
+    public Map<Long, List<String>> getUnsubmittedDiscordUserIds(Collection<Long> voteIds) {
+        if (voteIds.isEmpty()) {
+            return Map.of();
+        }
+        return participantRepo.findUnsubmittedDiscordUserIdsByVoteIds(voteIds).stream()
+                .collect(Collectors.groupingBy(
+                        ParticipantDtos.UnsubmittedDiscordUserRes::voteId,
+                        Collectors.mapping(ParticipantDtos.UnsubmittedDiscordUserRes::discordUserId, Collectors.toList())));
     }
 
     @Transactional
@@ -87,6 +112,7 @@ public class ParticipantService {
         // markSubmitted() 대신 직접 설정
         participant.setSubmitted(true);
         participant.setSubmittedAt(LocalDateTime.now());
+        progressRepo.recordSubmission(participant.getVote().getId(), 1, participant.getSubmittedAt());
 
         return new ParticipantDtos.ParticipantRes(
                 participant.getId(),
@@ -96,7 +122,12 @@ public class ParticipantService {
     }
 
     public void remove(Long participantId) {
-        participantRepo.deleteById(participantId);
+        participantRepo.findById(participantId).ifPresent(p -> {
+            Long voteId = p.getVote().getId();
+            boolean wasSubmitted = Boolean.TRUE.equals(p.getSubmitted());
+            participantRepo.delete(p);
+            progressRepo.adjustCounts(voteId, -1, wasSubmitted ? -1 : 0);
+        });
     }
 
     public List<ParticipantDtos.ParticipantRes> getParticipantsForVote(Long voteId) {
@@ -127,6 +158,9 @@ public class ParticipantService {
                 .orElseThrow(() -> new IllegalArgumentException("참가자를 찾을 수 없습니다."));
         
         Vote vote = participant.getVote();
+        // 첫 제출 여부는 조건부 갱신으로 판정 (같은 참여자의 동시 제출 중 한 건만 1 row 를 바꿔 카운터를 올림)
+        // 갱신한 row 는 트랜잭션이 끝날 때까지 잠기므로 동시 제출은 순서대로 처리됨
+        boolean firstSubmission = participantRepo.markSubmitted(participantId) == 1;
         
         // 1. 기존 데이터 명시적으로 삭제 (Repository 사용) - 수정!
         selectionRepo.deleteByParticipantId(participantId);
@@ -173,6 +207,7 @@ public class ParticipantService {
         
         Participant saved = participantRepo.save(participant);
         participantRepo.flush();
+        progressRepo.recordSubmission(vote.getId(), firstSubmission ? 1 : 0, saved.getSubmittedAt());
         
         // 6. 응답 생성
         List<ParticipantDtos.SelectionRes> selections = saved.getSelections().stream()
@@ -210,15 +245,17 @@ public class ParticipantService {
 
     /**
      * 특정 참여자의 선택한 일정과 우선순위 조회 (participantId만 사용)
+     * 엔티티/컬렉션 로딩 없이 프로젝션으로만 조회
      */
+    @Transactional(readOnly = true)
     public ParticipantDtos.ParticipantChoicesRes getParticipantChoices(Long participantId) {
 
         // 참여자 존재 확인 및 조회
-        Participant participant = participantRepo.findById(participantId)
+        ParticipantDtos.ParticipantStatusRes participant = participantRepo.findStatusById(participantId)
                 .orElseThrow(() -> new RuntimeException("Participant not found"));
 
-        // 일정 선택 정보 조회 (엔티티 관계 활용)
-        List<ParticipantDtos.SelectionInfo> selectionInfos = participant.getSelections().stream()
+        // 일정 선택 정보 조회
+        List<ParticipantDtos.SelectionInfo> selectionInfos = selectionRepo.findByParticipantIdOrderByIdAsc(participantId).stream()
                 .map(s -> new ParticipantDtos.SelectionInfo(
                         s.getId(),
                         s.getDate().toString(),
@@ -227,8 +264,8 @@ public class ParticipantService {
                 ))
                 .toList();
 
-        // 우선순위 정보 조회 (엔티티 관계 활용)
-        List<ParticipantDtos.PriorityInfo> priorityInfos = participant.getPriorities().stream()
+        // 우선순위 정보 조회 (priorityIndex 오름차순 정렬은 쿼리에서 처리)
+        List<ParticipantDtos.PriorityInfo> priorityInfos = priorityRepo.findByParticipantIdOrderByPriorityIndexAsc(participantId).stream()
                 .map(p -> new ParticipantDtos.PriorityInfo(
                         p.getId(),
                         p.getDate().toString(),
@@ -236,12 +273,11 @@ public class ParticipantService {
                         p.getPriorityIndex(),
                         p.getWeight()
                 ))
-                .sorted((p1, p2) -> p1.priorityIndex().compareTo(p2.priorityIndex()))
                 .toList();
 
         return new ParticipantDtos.ParticipantChoicesRes(
-                participant.getId(),
-                participant.getDisplayName(),
+                participant.id(),
+                participant.displayName(),
                 selectionInfos,
                 priorityInfos
         );
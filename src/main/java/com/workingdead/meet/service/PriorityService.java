@@ -21,17 +21,20 @@ public class PriorityService {
     private final PriorityPreferenceRepository prefRepo;
     private final ParticipantRepository participantRepo;
     private final VoteRepository voteRepo;
+    private final VoteProgressRepository progressRepo;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper om;
 
     public PriorityService(PriorityPreferenceRepository prefRepo,
                            ParticipantRepository participantRepo,
                            VoteRepository voteRepo,
+                           VoteProgressRepository progressRepo,
                            RedisTemplate<String, String> redisTemplate,
                            ObjectMapper om) {
         this.prefRepo = prefRepo;
         this.participantRepo = participantRepo;
         this.voteRepo = voteRepo;
+        this.progressRepo = progressRepo;
         this.redisTemplate = redisTemplate;
         this.om = om;
     }
@@ -131,6 +134,9 @@ public class PriorityService {
         if (!toSave.isEmpty()) {
             prefRepo.saveAll(toSave);
         }
+        if (!toDelete.isEmpty() || !toSave.isEmpty()) {
+            progressRepo.bumpResultVersion(voteId);
+        }
     } else if ("session".equals(finalStorage)) {
         // 현재 상태 계산
         List<PriorityPreference> currentPrefs = new ArrayList<>(existing);
@@ -3,9 +3,9 @@ package com.workingdead.meet.service;
 import com.workingdead.meet.dto.VoteDateRangeDtos.DateSlotDto;
 import com.workingdead.meet.dto.VoteDateRangeDtos.SlotDto;
 import com.workingdead.meet.entity.Period;
-import com.workingdead.meet.entity.ParticipantSelection;
 import com.workingdead.meet.entity.Vote;
 import com.workingdead.meet.repository.ParticipantSelectionRepository;
+import com.workingdead.meet.repository.ParticipantSelectionRepository.SelectionView;
 import com.workingdead.meet.repository.VoteRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,7 +14,7 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
@@ -29,50 +29,71 @@ public class VoteDateRangeService {
     }
 
     public List<DateSlotDto> getDateRangeSlots(Long voteId, Long participantId) {
+        return streamDateRangeSlots(voteId, participantId, null, null).toList();
+    }
+
+    /**
+     * 날짜 그리드를 주 단위로 잘라 지연 생성
+     * fromWeek/weeks 가 없으면 전체 범위, 있으면 startDate 기준 [fromWeek, fromWeek + weeks) 주만 생성
+     * 선택 정보는 해당 페이지 범위만 미리 읽어 두므로, 반환된 Stream 은 트랜잭션 밖에서 소비해도 안전
+     */
+    public Stream<DateSlotDto> streamDateRangeSlots(Long voteId, Long participantId, Integer fromWeek, Integer weeks) {
         Vote vote = voteRepository.findById(voteId)
                 .orElseThrow(() -> new NoSuchElementException("Vote not found: " + voteId));
 
         LocalDate start = vote.getStartDate();
         LocalDate end = vote.getEndDate();
         if (start == null || end == null) {
-            return Collections.emptyList();
+            return Stream.empty();
         }
 
-        long days = ChronoUnit.DAYS.between(start, end);
-        List<LocalDate> dates = IntStream.rangeClosed(0, (int) days)
-                .mapToObj(i -> start.plusDays(i))
-                .collect(Collectors.toList());
+        LocalDate pageStart = start;
+        LocalDate pageEnd = end;
+        if (fromWeek != null || weeks != null) {
+            int from = fromWeek != null ? fromWeek : 0;
+            int count = weeks != null ? weeks : 1;
+            if (from < 0 || count < 1) {
+                throw new IllegalArgumentException("fromWeek must be >= 0 and weeks must be >= 1");
+            }
+            // 투표 기간의 주 수로 잘라 둠 (아주 큰 값이 들어와도 plusWeeks 가 날짜 범위를 넘지 않게)
+            long totalWeeks = ChronoUnit.WEEKS.between(start, end) + 1;
+            if (from >= totalWeeks) {
+                return Stream.empty();
+            }
+            pageStart = start.plusWeeks(from);
+            LocalDate lastOfPage = pageStart.plusWeeks(Math.min(count, totalWeeks)).minusDays(1);
+            pageEnd = lastOfPage.isBefore(end) ? lastOfPage : end;
+        }
 
-        List<ParticipantSelection> selections;
+        List<SelectionView> selections;
         if (participantId == null) {
-            selections = selectionRepository.findByVoteId(voteId);
+            selections = selectionRepository.findByVoteIdAndDateBetween(voteId, pageStart, pageEnd);
         } else {
-            selections = selectionRepository.findByVoteIdAndParticipantId(voteId, participantId);
+            selections = selectionRepository.findByVoteIdAndParticipantIdAndDateBetween(voteId, participantId, pageStart, pageEnd);
         }
 
         Map<String, Boolean> selectionMap = new HashMap<>();
-        for (ParticipantSelection s : selections) {
+        for (SelectionView s : selections) {
             String key = keyOf(s.getDate(), s.getPeriod());
             selectionMap.put(key, selectionMap.getOrDefault(key, false) || s.isSelected());
         }
 
-        List<DateSlotDto> result = new ArrayList<>();
-        for (LocalDate date : dates) {
-            List<SlotDto> slots = Arrays.stream(Period.values())
-                    .map(period -> {
-                        // Period enum을 String으로 변환!
-                        boolean selected = selectionMap.getOrDefault(keyOf(date, period.name()), false);
-                        return new SlotDto(period.name(), selected);
-                    })
-                    .collect(Collectors.toList());
-            result.add(new DateSlotDto(date, slots));
-        }
+        return pageStart.datesUntil(pageEnd.plusDays(1))
+                .map(date -> new DateSlotDto(date, slotsOf(date, selectionMap)));
+    }
 
-        return result;
+    private List<SlotDto> slotsOf(LocalDate date, Map<String, Boolean> selectionMap) {
+        return Arrays.stream(Period.values())
+                .map(period -> {
+                    // Period enum을 String으로 변환!
+                    boolean selected = selectionMap.getOrDefault(keyOf(date, period.name()), false);
+                    return new SlotDto(period.name(), selected);
+                })
+                .collect(Collectors.toList());
     }
 
     // String period용 (ParticipantSelection에서 사용)
     private String keyOf(LocalDate date, String period) {
         return date.toString() + "|" + period;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+package com.workingdead.meet.service;
+
+import com.workingdead.meet.dto.VoteProgressDtos.VoteProgressRes;
+import com.workingdead.meet.entity.VoteProgress;
+import com.workingdead.meet.repository.VoteProgressRepository;
+import com.workingdead.meet.repository.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VoteProgressService {
+
+    private final VoteProgressRepository progressRepository;
+    private final VoteRepository voteRepository;
+
+    public VoteProgressRes getProgress(Long voteId) {
+        return progressRepository.findById(voteId)
+                .map(this::toRes)
+                .orElseGet(() -> {
+                    // 카운터 row 가 없는 투표 (참여자 없이 생성된 경우 등)
+                    if (!voteRepository.existsById(voteId)) {
+                        throw new NoSuchElementException("투표를 찾을 수 없습니다.");
+                    }
+                    return new VoteProgressRes(voteId, 0, 0, false, null, null);
+                });
+    }
+
+    // 참여자가 1명 이상이고 모두 제출했는지 여부
+    public boolean isAllSubmitted(Long voteId) {
+        return progressRepository.findById(voteId)
+                .map(p -> p.getTotalParticipants() > 0 && p.getSubmittedCount() >= p.getTotalParticipants())
+                .orElse(false);
+    }
+
+    // 카운터 row 가 없으면 0 (변경이 한 번도 없었던 투표)
+    public long getResultVersion(Long voteId) {
+        return progressRepository.findResultVersionById(voteId).orElse(0L);
+    }
+
+    private VoteProgressRes toRes(VoteProgress p) {
+        boolean allSubmitted = p.getTotalParticipants() > 0
+                && p.getSubmittedCount() >= p.getTotalParticipants();
+        return new VoteProgressRes(
+                p.getVoteId(),
+                p.getTotalParticipants(),
+                p.getSubmittedCount(),
+                allSubmitted,
+                p.getFirstSubmittedAt(),
+                p.getLastSubmittedAt()
+        );
+    }
+}
@@ -4,12 +4,16 @@ import com.workingdead.meet.dto.ParticipantDtos;
 import com.workingdead.meet.dto.VoteDtos;
 import com.workingdead.meet.entity.Participant;
 import com.workingdead.meet.entity.Vote;
+import com.workingdead.meet.entity.VoteProgress;
+import com.workingdead.meet.repository.VoteProgressRepository;
 import com.workingdead.meet.repository.VoteRepository;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
 
 
@@ -17,26 +21,36 @@ import java.util.*;
 @Transactional
 public class VoteService {
     private final VoteRepository voteRepo;
+    private final VoteProgressRepository progressRepo;
     private final String baseUrl;
+    private final int maxRangeDays;
     private static final String CODE_ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789"; // no confusing chars
     private final SecureRandom rnd = new SecureRandom();
 
 
-    public VoteService(VoteRepository voteRepo, @Value("${app.base-url:http://whendy.netlify.app}") String baseUrl) {
-        this.voteRepo = voteRepo; this.baseUrl = baseUrl;
+    public VoteService(VoteRepository voteRepo, VoteProgressRepository progressRepo,
+                       @Value("${app.base-url:http://whendy.netlify.app}") String baseUrl,
+                       @Value("${app.vote.max-range-days:62}") int maxRangeDays) {
+        this.voteRepo = voteRepo; this.progressRepo = progressRepo; this.baseUrl = baseUrl;
+        this.maxRangeDays = maxRangeDays;
     }
 
 
     public VoteDtos.VoteSummary create(VoteDtos.CreateVoteReq req) {
+        return create(req, null, Map.of());
+    }
+
+
+    // 디스코드 채널에서 생성된 투표 (channelId, 참석자 discordUserId -> displayName 을 함께 저장)
+    public VoteDtos.VoteSummary create(VoteDtos.CreateVoteReq req, String discordChannelId, Map<String, String> discordParticipants) {
         //1. Vote c
         String code = genCode(8);
         Vote v = new Vote(req.name(), code);
+        v.setDiscordChannelId(discordChannelId);
 
         // 2. 날짜 범위 설정 (있으면)
         if (req.startDate() != null && req.endDate() != null) {
-            if (req.endDate().isBefore(req.startDate())) {
-                throw new IllegalArgumentException("endDate must be >= startDate");
-            }
+            validateRange(req.startDate(), req.endDate());
             v.setDateRange(req.startDate(), req.endDate());
 
             // 3. 참여자 추가 (있으면)
@@ -48,9 +62,24 @@ public class VoteService {
                     }
                 }
             }
+
+            discordParticipants.forEach((discordUserId, name) -> {
+                if (name != null && !name.isBlank()) {
+                    Participant p = new Participant(v, name.trim());
+                    p.setDiscordUserId(discordUserId);
+                    v.getParticipants().add(p);
+                }
+            });
         }
 
         voteRepo.save(v);
+
+        // 4. 진행 카운터 생성
+        progressRepo.save(VoteProgress.builder()
+                .voteId(v.getId())
+                .totalParticipants(v.getParticipants().size())
+                .submittedCount(0)
+                .build());
         return toSummary(v);
     }
 
@@ -72,12 +101,18 @@ public class VoteService {
     }
 
 
+    public String getDiscordChannelId(Long voteId) {
+        return voteRepo.findDiscordChannelIdById(voteId).orElse(null);
+    }
+
+
     public VoteDtos.VoteDetail update(Long id, VoteDtos.UpdateVoteReq req) {
         Vote v = voteRepo.findById(id).orElseThrow(() -> new NoSuchElementException("vote not found"));
         if (req.name() != null && !req.name().isBlank()) v.setName(req.name());
         if (req.startDate() != null && req.endDate() != null) {
-            if (req.endDate().isBefore(req.startDate())) throw new IllegalArgumentException("endDate must be >= startDate");
+            validateRange(req.startDate(), req.endDate());
             v.setDateRange(req.startDate(), req.endDate());
+            progressRepo.bumpResultVersion(id);
         }
         return toDetail(v);
     }
@@ -88,6 +123,17 @@ public class VoteService {
     }
 
 
+    // endDate >= startDate, 전체 기간은 app.vote.max-range-days 이하
+    private void validateRange(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("endDate must be >= startDate");
+        }
+        if (ChronoUnit.DAYS.between(start, end) + 1 > maxRangeDays) {
+            throw new IllegalArgumentException("date range must be <= " + maxRangeDays + " days");
+        }
+    }
+
+
     private String genCode(int len) {
         StringBuilder sb = new StringBuilder(len);
         for (int i=0;i<len;i++) sb.append(CODE_ALPHABET.charAt(rnd.nextInt(CODE_ALPHABET.length())));
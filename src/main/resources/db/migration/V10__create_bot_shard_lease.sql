@@ -0,0 +1,8 @@
+-- 디스코드 샤드 소유권 lease (노드 간 샤드 단위 리더 선출)
+-- 소유 노드가 주기적으로 expires_at 을 갱신하고, 만료된 lease 는 다른 노드가 가져감
+
+CREATE TABLE IF NOT EXISTS bot_shard_lease (
+    shard_id    INTEGER      PRIMARY KEY,
+    owner_id    VARCHAR(128) NOT NULL,
+    expires_at  TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,4 @@
+-- 오래 갱신되지 않은 채널 세션 스냅샷 정리용 (ChannelSessionSnapshotCleaner, 샤드별로 updated_at 범위 삭제)
+
+CREATE INDEX IF NOT EXISTS idx_bot_channel_session_shard_updated_at
+    ON bot_channel_session (shard_id, updated_at);
@@ -0,0 +1,5 @@
+-- 알림을 가져간 시각 (발송 후 삭제하는 at-least-once 방식)
+-- 발송 전에 노드가 죽어 claimed_at 이 오래된 row 는 다른 폴러가 다시 가져감
+
+ALTER TABLE bot_reminder
+    ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP(6);
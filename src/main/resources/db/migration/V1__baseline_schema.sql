@@ -0,0 +1,42 @@
+-- 기존 ddl-auto(update)로 생성되던 스키마를 그대로 옮긴 베이스라인
+-- 이미 테이블이 있는 DB는 baseline-on-migrate 로 이 버전을 건너뜀
+
+CREATE TABLE IF NOT EXISTS vote (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255)                NOT NULL,
+    code        VARCHAR(255)                NOT NULL,
+    start_date  DATE,
+    end_date    DATE,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_vote_code UNIQUE (code)
+);
+
+CREATE TABLE IF NOT EXISTS participant (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    vote_id       BIGINT       NOT NULL REFERENCES vote (id),
+    display_name  VARCHAR(255) NOT NULL,
+    submitted_at  TIMESTAMP(6),
+    submitted     BOOLEAN
+);
+
+CREATE TABLE IF NOT EXISTS participant_selection (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    participant_id  BIGINT       NOT NULL REFERENCES participant (id),
+    vote_id         BIGINT       NOT NULL REFERENCES vote (id),
+    date            DATE         NOT NULL,
+    period          VARCHAR(255) NOT NULL,
+    selected        BOOLEAN      NOT NULL,
+    CONSTRAINT uk_participant_selection UNIQUE (vote_id, participant_id, date, period)
+);
+
+CREATE TABLE IF NOT EXISTS priority_preference (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    participant_id  BIGINT           NOT NULL REFERENCES participant (id),
+    vote_id         BIGINT           NOT NULL REFERENCES vote (id),
+    date            DATE             NOT NULL,
+    period          VARCHAR(255)     NOT NULL,
+    priority_index  INTEGER          NOT NULL,
+    weight          DOUBLE PRECISION NOT NULL,
+    created_at      TIMESTAMP(6)     NOT NULL,
+    CONSTRAINT uk_priority_preference UNIQUE (participant_id, vote_id, date, period, priority_index)
+);
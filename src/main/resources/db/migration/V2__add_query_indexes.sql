@@ -0,0 +1,19 @@
+-- 리포지토리 쿼리별 인덱스
+--  vote.findByCode                                  -> uk_vote_code (code)
+--  participant.findByVoteId                         -> idx_participant_vote_id
+--  participant_selection.findByVoteId(AndParticipantId)
+--                                                   -> unique (vote_id, participant_id, date, period) 선두 컬럼
+--  participant_selection.findByParticipantId / deleteByParticipantId
+--                                                   -> idx_participant_selection_participant_id
+--  priority_preference.findByParticipantIdAndVoteId / deleteByParticipantId
+--                                                   -> unique (participant_id, vote_id, ...) 선두 컬럼
+--  priority_preference.findByVoteId                 -> idx_priority_preference_vote_id
+
+CREATE INDEX IF NOT EXISTS idx_participant_vote_id
+    ON participant (vote_id);
+
+CREATE INDEX IF NOT EXISTS idx_participant_selection_participant_id
+    ON participant_selection (participant_id);
+
+CREATE INDEX IF NOT EXISTS idx_priority_preference_vote_id
+    ON priority_preference (vote_id);
@@ -0,0 +1,22 @@
+-- 투표별 진행 카운터 (참여자 수 / 제출 수 / 제출 시각)
+-- ParticipantService 의 add/remove/submit/submitSchedule 에서 갱신
+
+CREATE TABLE IF NOT EXISTS vote_progress (
+    vote_id             BIGINT       PRIMARY KEY REFERENCES vote (id) ON DELETE CASCADE,
+    total_participants  INTEGER      NOT NULL DEFAULT 0,
+    submitted_count     INTEGER      NOT NULL DEFAULT 0,
+    first_submitted_at  TIMESTAMP(6),
+    last_submitted_at   TIMESTAMP(6)
+);
+
+-- 기존 투표 backfill
+INSERT INTO vote_progress (vote_id, total_participants, submitted_count, first_submitted_at, last_submitted_at)
+SELECT v.id,
+       COUNT(p.id),
+       COUNT(p.id) FILTER (WHERE p.submitted),
+       MIN(p.submitted_at) FILTER (WHERE p.submitted),
+       MAX(p.submitted_at) FILTER (WHERE p.submitted)
+FROM vote v
+LEFT JOIN participant p ON p.vote_id = v.id
+GROUP BY v.id
+ON CONFLICT (vote_id) DO NOTHING;
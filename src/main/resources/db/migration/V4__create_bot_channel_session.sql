@@ -0,0 +1,19 @@
+-- 디스코드 채널별 웬디 세션 상태 (재시작/배포 후 복원용)
+
+CREATE TABLE IF NOT EXISTS bot_channel_session (
+    channel_id       VARCHAR(32)  PRIMARY KEY,
+    active           BOOLEAN      NOT NULL,
+    vote_id          BIGINT,
+    share_url        VARCHAR(512),
+    has_vote         BOOLEAN      NOT NULL,
+    vote_created_at  TIMESTAMP(6),
+    vote_weeks       INTEGER,
+    updated_at       TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS bot_channel_participant (
+    channel_id       VARCHAR(32)  NOT NULL REFERENCES bot_channel_session (channel_id) ON DELETE CASCADE,
+    discord_user_id  VARCHAR(32)  NOT NULL,
+    display_name     VARCHAR(255) NOT NULL,
+    PRIMARY KEY (channel_id, discord_user_id)
+);
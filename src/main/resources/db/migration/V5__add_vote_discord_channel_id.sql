@@ -0,0 +1,9 @@
+-- 투표를 만든 디스코드 채널 (voteId -> channelId 역조회용, 재시작/다른 노드에서도 유지)
+
+ALTER TABLE vote ADD COLUMN IF NOT EXISTS discord_channel_id VARCHAR(32);
+
+UPDATE vote v
+SET discord_channel_id = s.channel_id
+FROM bot_channel_session s
+WHERE s.vote_id = v.id
+  AND v.discord_channel_id IS NULL;
@@ -0,0 +1,15 @@
+-- 디스코드 멤버와 참여자를 이름이 아닌 id 로 연결 (미투표자 독촉용)
+-- 조회는 participant(vote_id) 인덱스(idx_participant_vote_id)를 사용
+
+ALTER TABLE participant ADD COLUMN IF NOT EXISTS discord_user_id VARCHAR(32);
+
+-- 진행 중인 봇 세션은 이름이 채널 안에서 유일한 경우에만 id 를 채워 둠
+UPDATE participant p
+SET discord_user_id = bcp.discord_user_id
+FROM bot_channel_session s
+JOIN bot_channel_participant bcp ON bcp.channel_id = s.channel_id
+WHERE s.vote_id = p.vote_id
+  AND bcp.display_name = p.display_name
+  AND p.discord_user_id IS NULL
+  AND (SELECT COUNT(*) FROM bot_channel_participant d
+       WHERE d.channel_id = bcp.channel_id AND d.display_name = bcp.display_name) = 1;
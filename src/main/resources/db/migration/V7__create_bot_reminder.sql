@@ -0,0 +1,16 @@
+-- 웬디 알림 예약 큐 (투표 현황 공유 / 미투표자 독촉)
+-- 폴러가 due_at 이 지난 row 를 FOR UPDATE SKIP LOCKED 로 배치 단위로 가져가서 삭제 후 발송
+
+CREATE TABLE IF NOT EXISTS bot_reminder (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    channel_id  VARCHAR(32)  NOT NULL,
+    kind        VARCHAR(32)  NOT NULL,
+    due_at      TIMESTAMP(6) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_bot_reminder_due_at
+    ON bot_reminder (due_at);
+
+CREATE INDEX IF NOT EXISTS idx_bot_reminder_channel_id
+    ON bot_reminder (channel_id);
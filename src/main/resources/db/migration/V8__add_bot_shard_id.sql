@@ -0,0 +1,14 @@
+-- 디스코드 샤드 단위로 봇 상태/알림을 나눠 담당하기 위한 shard_id
+-- 기존 row 는 단일 샤드(0) 운영 시절 데이터
+
+ALTER TABLE bot_channel_session
+    ADD COLUMN IF NOT EXISTS shard_id INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE bot_reminder
+    ADD COLUMN IF NOT EXISTS shard_id INTEGER NOT NULL DEFAULT 0;
+
+-- 폴러는 자기 샤드 범위의 due row 만 가져감
+DROP INDEX IF EXISTS idx_bot_reminder_due_at;
+
+CREATE INDEX IF NOT EXISTS idx_bot_reminder_shard_due_at
+    ON bot_reminder (shard_id, due_at);
@@ -0,0 +1,5 @@
+-- 투표 결과 버전 (선택/우선순위/참여자 변경 시 1씩 증가)
+-- 봇 메시지 렌더링 캐시 키 (voteId, result_version, template) 로 사용
+
+ALTER TABLE vote_progress
+    ADD COLUMN IF NOT EXISTS result_version BIGINT NOT NULL DEFAULT 0;
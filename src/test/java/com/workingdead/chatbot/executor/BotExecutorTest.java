@@ -0,0 +1,92 @@
+package com.workingdead.chatbot.executor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * DB 구간은 db-permits 개까지만 동시에 실행되고, 그동안 DB 를 쓰지 않는 작업은 막히지 않는지
+ * 느린 리포지토리 대신 문이 열릴 때까지 붙잡혀 있는 가짜 리포지토리를 사용
+ */
+class BotExecutorTest {
+
+    private static final int DB_PERMITS = 2;
+    private static final int DB_TASKS = 6;
+    private static final int PLATFORM_THREADS = 8;
+
+    private final SlowRepository repository = new SlowRepository();
+    private BotExecutor executor;
+
+    @AfterEach
+    void shutdown() {
+        repository.open();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @ParameterizedTest(name = "virtualThreads={0}")
+    @ValueSource(booleans = {true, false})
+    void limitsConcurrentDbSectionsWhileOtherWorkFlows(boolean virtualThreads) throws InterruptedException {
+        executor = new BotExecutor(new SimpleMeterRegistry(), virtualThreads, PLATFORM_THREADS, DB_PERMITS);
+
+        AtomicInteger loaded = new AtomicInteger();
+        for (int i = 0; i < DB_TASKS; i++) {
+            executor.execute(() -> loaded.addAndGet(executor.callWithDbPermit(repository::load)));
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> repository.active() == DB_PERMITS);
+
+        // DB 구간이 허용 수만큼 붙잡혀 있는 동안에도 DB 를 쓰지 않는 작업은 바로 끝남
+        CountDownLatch otherWork = new CountDownLatch(20);
+        for (int i = 0; i < 20; i++) {
+            executor.execute(otherWork::countDown);
+        }
+        assertThat(otherWork.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(repository.active()).isEqualTo(DB_PERMITS);
+
+        repository.open();
+        await().atMost(Duration.ofSeconds(5)).until(() -> loaded.get() == DB_TASKS);
+        assertThat(repository.maxActive()).isEqualTo(DB_PERMITS);
+    }
+
+    // load 는 open() 전까지 반환하지 않음, 동시에 안에 있던 호출 수의 최댓값을 기록
+    private static final class SlowRepository {
+
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger maxActive = new AtomicInteger();
+
+        int load() {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+            return 1;
+        }
+
+        void open() {
+            gate.countDown();
+        }
+
+        int active() {
+            return active.get();
+        }
+
+        int maxActive() {
+            return maxActive.get();
+        }
+    }
+}
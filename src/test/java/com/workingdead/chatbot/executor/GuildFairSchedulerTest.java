@@ -0,0 +1,157 @@
+package com.workingdead.chatbot.executor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GuildFairScheduler 의 꺼내는 순서 / 길드당 동시 실행 / 큐 한도
+ * 실행기는 넘겨받은 작업을 모아 두기만 하고 테스트가 하나씩 실행 → 스레드 없이 순서가 결정적
+ */
+class GuildFairSchedulerTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ManualBotExecutor executor = new ManualBotExecutor(meterRegistry);
+    private final List<String> executed = new ArrayList<>();
+
+    @Test
+    void weightedRoundRobinAcrossGuilds() {
+        GuildFairScheduler scheduler = scheduler(1, 2, 50, Map.of("A", 2));
+
+        // 실행 슬롯을 막아 두고 두 길드의 큐를 먼저 채움
+        scheduler.submit("blocker", null, record("X"));
+        for (int i = 1; i <= 4; i++) {
+            scheduler.submit("A", null, record("A" + i));
+            scheduler.submit("B", null, record("B" + i));
+        }
+
+        executor.runAll();
+
+        // 가중치 2 인 A 가 B 한 번에 두 번씩
+        assertThat(executed).containsExactly("X", "A1", "A2", "B1", "A3", "A4", "B2", "B3", "B4");
+        assertThat(scheduler.getQueued()).isZero();
+        assertThat(scheduler.getInFlight()).isZero();
+        assertThat(scheduler.getActiveGuilds()).isZero();
+    }
+
+    @Test
+    void limitsConcurrencyPerGuildButNotOtherGuilds() {
+        GuildFairScheduler scheduler = scheduler(10, 2, 50, Map.of());
+
+        for (int i = 1; i <= 5; i++) {
+            scheduler.submit("A", null, record("A" + i));
+        }
+        assertThat(executor.started()).isEqualTo(2);
+        assertThat(scheduler.getInFlight()).isEqualTo(2);
+        assertThat(scheduler.getQueued()).isEqualTo(3);
+
+        // A 가 한도까지 실행 중이어도 B 는 바로 시작
+        scheduler.submit("B", null, record("B1"));
+        assertThat(executor.started()).isEqualTo(3);
+
+        // A 작업 하나가 끝나면 A 의 다음 작업이 그 자리를 채움
+        executor.runNext();
+        assertThat(executed).containsExactly("A1");
+        assertThat(executor.started()).isEqualTo(3);
+        assertThat(scheduler.getQueued()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsWhenGuildQueueIsFull() {
+        GuildFairScheduler scheduler = scheduler(1, 1, 2, Map.of());
+        scheduler.submit("blocker", null, record("X"));
+
+        assertThat(scheduler.submit("A", null, record("A1"))).isTrue();
+        assertThat(scheduler.submit("A", null, record("A2"))).isTrue();
+        assertThat(scheduler.submit("A", null, record("A3"))).isFalse();
+        assertThat(meterRegistry.counter("wendy.fair.rejected").count()).isEqualTo(1);
+
+        // 다른 길드는 영향 없음
+        assertThat(scheduler.submit("B", null, record("B1"))).isTrue();
+
+        executor.runAll();
+        assertThat(executed).containsExactlyInAnyOrder("X", "A1", "A2", "B1");
+    }
+
+    @Test
+    void uncappedSubmitIgnoresQueueLimit() {
+        GuildFairScheduler scheduler = scheduler(1, 1, 1, Map.of());
+        scheduler.submit("blocker", null, record("X"));
+
+        assertThat(scheduler.submit("A", null, record("A1"))).isTrue();
+        scheduler.submitUncapped("A", null, record("reminder"));
+        assertThat(scheduler.getQueued()).isEqualTo(2);
+        assertThat(meterRegistry.counter("wendy.fair.rejected").count()).isZero();
+
+        executor.runAll();
+        assertThat(executed).containsExactly("X", "A1", "reminder");
+    }
+
+    @Test
+    void runsOneTaskPerChannelInSubmitOrder() {
+        GuildFairScheduler scheduler = scheduler(10, 2, 50, Map.of());
+
+        // 같은 채널의 start → 참석자 선택 → revote 는 길드 동시 실행 한도가 남아도 하나씩
+        scheduler.submit("A", "c1", record("c1-start"));
+        scheduler.submit("A", "c1", record("c1-select"));
+        scheduler.submit("A", "c2", record("c2-start"));
+        scheduler.submit("A", "c1", record("c1-revote"));
+        assertThat(executor.started()).isEqualTo(2);
+
+        // c1 의 다음 작업은 c1-start 가 끝난 뒤에야 시작
+        executor.runNext();
+        executor.runNext();
+        assertThat(executed).containsExactly("c1-start", "c2-start");
+        assertThat(executor.started()).isEqualTo(1);
+
+        executor.runAll();
+        assertThat(executed).containsExactly("c1-start", "c2-start", "c1-select", "c1-revote");
+        assertThat(scheduler.getQueued()).isZero();
+        assertThat(scheduler.getActiveGuilds()).isZero();
+    }
+
+    private GuildFairScheduler scheduler(int maxInFlight, int maxConcurrencyPerGuild, int maxQueuedPerGuild,
+                                         Map<String, Integer> weights) {
+        return new GuildFairScheduler(executor, meterRegistry, maxInFlight, maxConcurrencyPerGuild,
+                maxQueuedPerGuild, weights);
+    }
+
+    private Runnable record(String label) {
+        return () -> executed.add(label);
+    }
+
+    // execute 로 받은 작업을 실행하지 않고 쌓아 둠 (DB 허용 구간은 실제 구현 그대로)
+    private static final class ManualBotExecutor extends BotExecutor {
+
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        ManualBotExecutor(MeterRegistry meterRegistry) {
+            super(meterRegistry, false, 1, 100);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        int started() {
+            return tasks.size();
+        }
+
+        void runNext() {
+            tasks.remove(0).run();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                runNext();
+            }
+        }
+    }
+}
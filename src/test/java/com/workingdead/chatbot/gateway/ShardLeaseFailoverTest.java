@@ -0,0 +1,129 @@
+package com.workingdead.chatbot.gateway;
+
+import com.workingdead.chatbot.entity.BotShardLease;
+import com.workingdead.chatbot.repository.BotShardLeaseRepository;
+import com.workingdead.support.PostgresContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 같은 DB 를 보는 두 노드(애플리케이션 컨텍스트)가 샤드 lease 를 나눠 갖는지
+ * - 샤드마다 정확히 한 노드만 소유
+ * - 소유 노드가 내려가면 대기 노드가 넘겨받음
+ */
+class ShardLeaseFailoverTest extends PostgresContainerSupport {
+
+    private static final Set<Integer> ALL_SHARDS = Set.of(0, 1);
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void stopNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void eachShardHasExactlyOneOwner() {
+        ShardAssignment first = startNode().getBean(ShardAssignment.class);
+        await().atMost(Duration.ofSeconds(10)).until(() -> first.getOwnedShards().equals(ALL_SHARDS));
+
+        ShardAssignment second = startNode().getBean(ShardAssignment.class);
+
+        // 대기 노드가 여러 번 갱신을 시도하는 동안에도 소유권이 겹치거나 비지 않음
+        long until = System.currentTimeMillis() + 2000;
+        while (System.currentTimeMillis() < until) {
+            Set<Integer> firstOwned = first.getOwnedShards();
+            Set<Integer> secondOwned = second.getOwnedShards();
+            assertThat(intersection(firstOwned, secondOwned)).isEmpty();
+            assertThat(firstOwned).isEqualTo(ALL_SHARDS);
+            sleep(50);
+        }
+        assertThat(second.getOwnedShards()).isEmpty();
+    }
+
+    @Test
+    void ownershipFailsOverWhenOwnerStops() {
+        ConfigurableApplicationContext firstNode = startNode();
+        ShardAssignment first = firstNode.getBean(ShardAssignment.class);
+        await().atMost(Duration.ofSeconds(10)).until(() -> first.getOwnedShards().equals(ALL_SHARDS));
+
+        ConfigurableApplicationContext secondNode = startNode();
+        ShardAssignment second = secondNode.getBean(ShardAssignment.class);
+        String secondOwnerId = secondNode.getBean(ShardLeaseManager.class).getOwnerId();
+
+        firstNode.close();
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> second.getOwnedShards().equals(ALL_SHARDS));
+        List<BotShardLease> leases = secondNode.getBean(BotShardLeaseRepository.class).findAll();
+        assertThat(leases).hasSize(ALL_SHARDS.size())
+                .allSatisfy(lease -> assertThat(lease.getOwnerId()).isEqualTo(secondOwnerId));
+    }
+
+    private ConfigurableApplicationContext startNode() {
+        List<String> args = new ArrayList<>(datasourceArgs());
+        args.addAll(List.of(
+                "--discord.shards.total=2",
+                "--discord.shards.min=0",
+                "--discord.shards.max=-1",
+                "--discord.shards.lease.ttl-ms=3000",
+                "--discord.shards.lease.renew-interval-ms=200",
+                "--discord.shards.lease.safety-margin-ms=500",
+                "--discord.shards.lease.call-timeout-ms=1000",
+                "--spring.jpa.show-sql=false"
+        ));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LeaseNode.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+        nodes.add(context);
+        return context;
+    }
+
+    private static Set<Integer> intersection(Set<Integer> a, Set<Integer> b) {
+        Set<Integer> result = new HashSet<>(a);
+        result.retainAll(b);
+        return result;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // lease 에 필요한 빈만 올린 노드 (디스코드 연결/웹/Redis 없음)
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            FlywayAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = BotShardLease.class)
+    @EnableJpaRepositories(basePackageClasses = BotShardLeaseRepository.class)
+    @Import({ShardAssignment.class, ShardLeaseManager.class})
+    static class LeaseNode {
+    }
+}
@@ -0,0 +1,137 @@
+package com.workingdead.chatbot.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * HashedTimingWheel 예약/취소/만료
+ * tick 10ms, 버킷 8개 → 80ms 를 넘는 지연은 휠을 여러 바퀴 돌아야 만료됨
+ * 작업은 ticker 스레드에서 바로 실행 (worker = Runnable::run)
+ */
+class HashedTimingWheelTest {
+
+    private static final Duration TICK = Duration.ofMillis(10);
+    private static final int WHEEL_SIZE = 8;
+
+    private final HashedTimingWheel wheel = new HashedTimingWheel(TICK, WHEEL_SIZE, Runnable::run, "test-wheel");
+
+    @AfterEach
+    void close() {
+        wheel.close();
+    }
+
+    @Test
+    void runsTaskNoEarlierThanItsDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long scheduledAt = System.nanoTime();
+        AtomicInteger elapsedMillis = new AtomicInteger();
+
+        wheel.schedule(() -> {
+            elapsedMillis.set((int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledAt));
+            fired.countDown();
+        }, Duration.ofMillis(50));
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(elapsedMillis.get()).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void multiRoundDeadlinesExpireInOrderAndOnTime() throws InterruptedException {
+        // 같은 버킷에 떨어지는 지연(40ms, 120ms, 440ms = 4, 12, 44 tick)을 섞어서 예약
+        List<Long> delays = List.of(440L, 40L, 120L, 200L);
+        List<Long> firedOrder = new CopyOnWriteArrayList<>();
+        Map<Long, Long> elapsed = new ConcurrentHashMap<>();
+        CountDownLatch fired = new CountDownLatch(delays.size());
+        long scheduledAt = System.nanoTime();
+
+        for (long delay : delays) {
+            wheel.schedule(() -> {
+                elapsed.put(delay, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scheduledAt));
+                firedOrder.add(delay);
+                fired.countDown();
+            }, Duration.ofMillis(delay));
+        }
+
+        assertThat(fired.await(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(firedOrder).containsExactly(40L, 120L, 200L, 440L);
+        elapsed.forEach((delay, actual) -> assertThat(actual).as("delay %dms", delay).isGreaterThanOrEqualTo(delay));
+    }
+
+    @Test
+    void cancelledTaskNeverRuns() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        HashedTimingWheel.Timeout timeout = wheel.schedule(runs::incrementAndGet, Duration.ofMillis(100));
+        // 같은 시각의 다른 작업이 실행된 뒤에도 취소한 작업은 실행되지 않아야 함
+        CountDownLatch later = new CountDownLatch(1);
+        wheel.schedule(later::countDown, Duration.ofMillis(200));
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.isCancelled()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+
+        assertThat(later.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs.get()).isZero();
+    }
+
+    @Test
+    void cancelAfterExpiryReturnsFalse() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        HashedTimingWheel.Timeout timeout = wheel.schedule(fired::countDown, Duration.ofMillis(20));
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(timeout.isCancelled()).isFalse();
+    }
+
+    @Test
+    void pastDeadlineRunsOnNextTick() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(2);
+        wheel.schedule(fired::countDown, Duration.ZERO);
+        wheel.schedule(fired::countDown, Duration.ofMillis(-500));
+
+        assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void everyTaskRunsExactlyOnce() throws InterruptedException {
+        int tasks = 2_000;
+        AtomicInteger[] runs = new AtomicInteger[tasks];
+        CountDownLatch fired = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            AtomicInteger count = runs[i] = new AtomicInteger();
+            wheel.schedule(() -> {
+                count.incrementAndGet();
+                fired.countDown();
+            }, Duration.ofMillis(ThreadLocalRandom.current().nextInt(0, 300)));
+        }
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(runs).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+    }
+
+    @Test
+    void closedWheelRejectsNewTasksAndDropsPendingOnes() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        wheel.schedule(runs::incrementAndGet, Duration.ofMillis(50));
+        wheel.close();
+
+        assertThatThrownBy(() -> wheel.schedule(runs::incrementAndGet, Duration.ZERO))
+                .isInstanceOf(IllegalStateException.class);
+        Thread.sleep(200);
+        assertThat(runs.get()).isZero();
+    }
+}
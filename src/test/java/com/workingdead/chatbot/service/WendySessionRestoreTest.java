@@ -0,0 +1,161 @@
+package com.workingdead.chatbot.service;
+
+import com.workingdead.chatbot.entity.BotChannelSession;
+import com.workingdead.chatbot.gateway.ShardAssignment;
+import com.workingdead.chatbot.repository.BotChannelSessionRepository;
+import com.workingdead.chatbot.session.ChannelSession;
+import com.workingdead.chatbot.session.ChannelSessionStore;
+import com.workingdead.meet.dto.VoteDtos.VoteSummary;
+import com.workingdead.meet.service.ParticipantService;
+import com.workingdead.meet.service.VoteProgressService;
+import com.workingdead.meet.service.VoteResultService;
+import com.workingdead.meet.service.VoteService;
+import com.workingdead.support.PostgresContainerSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재시작 후 채널 세션 복원
+ * 세션을 bot_channel_session 에 저장한 뒤 인메모리 보관소를 비우고(재시작과 같은 상태),
+ * 채널에 처음 접근할 때 DB 스냅샷에서 그대로 복원되는지 확인
+ * 테스트 트랜잭션 없이 실제로 커밋해서 영속성 컨텍스트가 아닌 DB 에서 읽게 함
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({WendyServiceImpl.class, ChannelSessionStore.class, ShardAssignment.class, SimpleMeterRegistry.class})
+class WendySessionRestoreTest extends PostgresContainerSupport {
+
+    private static final String CHANNEL_ID = "100000000000000001";
+
+    @Autowired WendyService wendyService;
+    @Autowired ChannelSessionStore sessionStore;
+    @Autowired ShardAssignment shardAssignment;
+    @Autowired BotChannelSessionRepository sessionRepository;
+    @Autowired MeterRegistry meterRegistry;
+
+    @MockitoBean VoteService voteService;
+    @MockitoBean ParticipantService participantService;
+    @MockitoBean VoteResultService voteResultService;
+    @MockitoBean VoteProgressService voteProgressService;
+
+    @BeforeEach
+    void ownShardZero() {
+        shardAssignment.updateOwnedShards(List.of(0));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        sessionStore.evictIf(session -> true);
+        sessionRepository.deleteAll();
+    }
+
+    @Test
+    void restoresPersistedSessionLazilyAfterRestart() {
+        when(voteService.create(any(), eq(CHANNEL_ID), anyMap())).thenReturn(new VoteSummary(
+                42L, "general", "code", "/admin", "https://when.d/share/code",
+                LocalDate.now(), LocalDate.now().plusDays(6)));
+
+        wendyService.startSession(CHANNEL_ID, 0);
+        wendyService.addParticipant(CHANNEL_ID, "u1", "Alice");
+        wendyService.addParticipant(CHANNEL_ID, "u2", "Bob");
+        String shareUrl = wendyService.createVote(CHANNEL_ID, "general", 1);
+        ChannelSession beforeRestart = sessionStore.find(CHANNEL_ID);
+
+        // 재시작: 인메모리 상태가 모두 사라짐
+        sessionStore.evictIf(session -> true);
+        assertThat(sessionStore.find(CHANNEL_ID)).isNull();
+
+        // 첫 접근에서 DB 스냅샷으로 복원
+        assertThat(wendyService.isSessionActive(CHANNEL_ID)).isTrue();
+        ChannelSession restored = sessionStore.find(CHANNEL_ID);
+        assertThat(restored).isNotNull();
+        assertThat(restored.participants()).isEqualTo(Map.of("u1", "Alice", "u2", "Bob"));
+        assertThat(restored.voteId()).isEqualTo(42L);
+        assertThat(restored.shareUrl()).isEqualTo(shareUrl);
+        assertThat(restored.hasVote()).isTrue();
+        assertThat(restored.voteWeeks()).isEqualTo(1);
+        assertThat(restored.voteCreatedAt()).isCloseTo(beforeRestart.voteCreatedAt(),
+                within(1, ChronoUnit.MILLIS));
+        assertThat(wendyService.getChannelIdByVoteId(42L)).isEqualTo(CHANNEL_ID);
+
+        // 복원은 한 번만: 이후 접근은 메모리에서 (DB 에서 지워도 그대로)
+        sessionRepository.deleteById(CHANNEL_ID);
+        assertThat(wendyService.isSessionActive(CHANNEL_ID)).isTrue();
+        assertThat(wendyService.getShareUrl(CHANNEL_ID)).isEqualTo(shareUrl);
+    }
+
+    @Test
+    void endedSessionIsNotRestored() {
+        wendyService.startSession(CHANNEL_ID, 0);
+        wendyService.endSession(CHANNEL_ID);
+        assertThat(sessionRepository.findById(CHANNEL_ID)).isEmpty();
+
+        sessionStore.evictIf(session -> true);
+
+        assertThat(wendyService.isSessionActive(CHANNEL_ID)).isFalse();
+    }
+
+    @Test
+    void sessionOfShardOwnedByAnotherNodeIsNotRestored() {
+        sessionRepository.save(BotChannelSession.builder()
+                .channelId(CHANNEL_ID)
+                .shardId(1)
+                .active(true)
+                .participants(new HashMap<>(Map.of("u1", "Alice")))
+                .hasVote(false)
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        assertThat(wendyService.isSessionActive(CHANNEL_ID)).isFalse();
+        assertThat(sessionStore.find(CHANNEL_ID)).isNull();
+
+        // lease 를 넘겨받으면 다음 접근에서 복원
+        shardAssignment.updateOwnedShards(List.of(0, 1));
+        assertThat(wendyService.isSessionActive(CHANNEL_ID)).isTrue();
+        assertThat(sessionStore.find(CHANNEL_ID).participants()).containsEntry("u1", "Alice");
+    }
+
+    @Test
+    void failedWriteDoesNotLeaveUnsavedStateInMemory() {
+        wendyService.startSession(CHANNEL_ID, 0);
+        wendyService.addParticipant(CHANNEL_ID, "u1", "Alice");
+
+        // discord_user_id 는 VARCHAR(32) → 재시도해도 매번 실패하는 쓰기
+        String tooLongId = "9".repeat(40);
+        assertThatThrownBy(() -> wendyService.addParticipant(CHANNEL_ID, tooLongId, "Mallory"))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(meterRegistry.counter("wendy.session.persist.failures", "result", "retried").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("wendy.session.persist.failures", "result", "failed").count()).isEqualTo(1);
+
+        // 메모리의 세션은 내려가고, 다음 접근은 마지막으로 저장된 스냅샷을 봄
+        assertThat(sessionStore.find(CHANNEL_ID)).isNull();
+        assertThat(wendyService.isSessionActive(CHANNEL_ID)).isTrue();
+        assertThat(sessionStore.find(CHANNEL_ID).participants()).isEqualTo(Map.of("u1", "Alice"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.workingdead.chatbot.session;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 교체/저장 도중 축출되거나 저장에 실패해도 메모리와 저장된 상태가 어긋나지 않는지
+ * DB 대신 채널별 마지막 저장 상태를 들고 있는 가짜 저장소를 loader/writer 로 씀
+ */
+class ChannelSessionStoreTest {
+
+    private static final String CHANNEL_ID = "100000000000000001";
+
+    private final ChannelSessionStore store = new ChannelSessionStore(Duration.ofHours(24), Duration.ofHours(1), 100);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<ChannelSession> written = new ArrayList<>();
+    private ChannelSession saved = ChannelSession.empty(CHANNEL_ID).started(0);
+
+    private final Function<String, ChannelSession> loader = channelId -> {
+        loads.incrementAndGet();
+        return saved;
+    };
+
+    @Test
+    void changeAppliedToEvictedSlotIsReappliedToReloadedSession() {
+        store.getOrLoad(CHANNEL_ID, loader);
+        saved = saved.withParticipant("u0", "Saved elsewhere");
+
+        // 첫 시도에서는 교체 직전에 채널이 내려감 → 그 변경은 버리고 DB 에서 다시 읽은 세션에 다시 적용
+        AtomicBoolean evictOnce = new AtomicBoolean(true);
+        ChannelSessionStore.Transition transition = store.update(CHANNEL_ID, loader, session -> {
+            if (evictOnce.getAndSet(false)) {
+                store.evict(CHANNEL_ID);
+            }
+            return session.withParticipant("u1", "Alice");
+        }, this::write);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(written).hasSize(1);
+        assertThat(transition.after().participants()).isEqualTo(Map.of("u0", "Saved elsewhere", "u1", "Alice"));
+        assertThat(store.find(CHANNEL_ID)).isSameAs(transition.after());
+    }
+
+    @Test
+    void failedWriteEvictsSoNextAccessReadsSavedState() {
+        store.getOrLoad(CHANNEL_ID, loader);
+
+        assertThatThrownBy(() -> store.update(CHANNEL_ID, loader, session -> session.withParticipant("u1", "Alice"),
+                session -> {
+                    throw new IllegalStateException("db down");
+                })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(store.find(CHANNEL_ID)).isNull();
+        assertThat(store.getOrLoad(CHANNEL_ID, loader).participants()).isEmpty();
+    }
+
+    @Test
+    void failedLoadCachesNothing() {
+        assertThat(store.getOrLoad(CHANNEL_ID, channelId -> null)).isNull();
+        assertThatThrownBy(() -> store.update(CHANNEL_ID, channelId -> null, session -> session, this::write))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(store.find(CHANNEL_ID)).isNull();
+        assertThat(written).isEmpty();
+    }
+
+    private void write(ChannelSession session) {
+        written.add(session);
+        saved = session;
+    }
+}
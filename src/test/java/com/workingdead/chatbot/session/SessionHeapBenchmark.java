@@ -0,0 +1,81 @@
+package com.workingdead.chatbot.session;
+
+import com.workingdead.chatbot.scheduler.HashedTimingWheel;
+import com.workingdead.chatbot.scheduler.ReminderKind;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 길드 수에 따른 봇 상태 힙 측정 하네스 (./gradlew heapBenchmark, 일반 test 에서는 제외)
+ * 길드마다 진행 중인 채널 하나(참석자 25명 + 투표)와 로컬 알림 예약 6건을 실제 ChannelSessionStore /
+ * HashedTimingWheel 에 올린 뒤, GC 후 늘어난 힙과 actuator 추정치(SessionStats.estimatedBytes)를 출력
+ * JDA 의 길드/멤버 캐시는 게이트웨이 연결이 있어야 채워지므로 여기서는 측정하지 않음
+ */
+@Tag("benchmark")
+class SessionHeapBenchmark {
+
+    private static final int PARTICIPANTS_PER_CHANNEL = 25;
+
+    @ParameterizedTest(name = "{0} guilds")
+    @ValueSource(ints = {100, 1000})
+    void measureRetainedHeapPerGuild(int guilds) throws InterruptedException {
+        long baseline = usedHeapAfterGc();
+
+        ChannelSessionStore store = new ChannelSessionStore(Duration.ofHours(24), Duration.ofHours(1), 100_000);
+        HashedTimingWheel wheel = new HashedTimingWheel(Duration.ofSeconds(1), 512, Runnable::run, "benchmark-wheel");
+        try {
+            for (int guild = 0; guild < guilds; guild++) {
+                String channelId = String.valueOf(1_100_000_000_000_000_000L + guild);
+                long voteId = guild + 1;
+                store.update(channelId, ChannelSession::empty, session -> activeWithVote(session, voteId), session -> {
+                });
+                for (ReminderKind kind : ReminderKind.values()) {
+                    wheel.schedule(() -> {
+                    }, kind.getDelay());
+                }
+            }
+
+            long retained = usedHeapAfterGc() - baseline;
+            ChannelSessionStore.SessionStats stats = store.stats();
+            System.out.printf("[Benchmark] %,d guilds: retained=%,d KB (%,d bytes/guild), session estimate=%,d KB%n",
+                    guilds, retained / 1024, retained / guilds, stats.estimatedBytes() / 1024);
+
+            assertThat(stats.channels()).isEqualTo(guilds);
+            assertThat(stats.participants()).isEqualTo((long) guilds * PARTICIPANTS_PER_CHANNEL);
+        } finally {
+            wheel.close();
+            Reference.reachabilityFence(store);
+        }
+    }
+
+    private static ChannelSession activeWithVote(ChannelSession session, long voteId) {
+        ChannelSession updated = session.started(0);
+        for (int i = 0; i < PARTICIPANTS_PER_CHANNEL; i++) {
+            updated = updated.withParticipant(String.valueOf(1_200_000_000_000_000_000L + voteId * 100 + i),
+                    "member-" + i);
+        }
+        return updated.withVote(voteId, "https://whend.app/share/" + Long.toString(voteId, 36),
+                LocalDateTime.now(), 1);
+    }
+
+    // 여러 번 GC 를 요청해 안정된 사용량을 읽음 (측정 하네스 용도라 정밀하지 않아도 됨)
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,222 @@
+package com.workingdead.config;
+
+import com.workingdead.chatbot.command.WendyCommand;
+import com.workingdead.chatbot.entity.BotReminder;
+import com.workingdead.chatbot.executor.BotExecutor;
+import com.workingdead.chatbot.executor.GuildFairScheduler;
+import com.workingdead.chatbot.gateway.DiscordGateway;
+import com.workingdead.chatbot.gateway.ShardAssignment;
+import com.workingdead.chatbot.outbound.OutboundMessageDispatcher;
+import com.workingdead.chatbot.repository.BotReminderRepository;
+import com.workingdead.chatbot.scheduler.DbReminderQueue;
+import com.workingdead.chatbot.scheduler.ReminderDispatcher;
+import com.workingdead.chatbot.scheduler.ReminderKind;
+import com.workingdead.chatbot.service.VoteStatusShareDebouncer;
+import com.workingdead.chatbot.service.WendyNotifier;
+import com.workingdead.chatbot.service.WendyService;
+import com.workingdead.support.PostgresContainerSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.channel.concrete.TextChannel;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 알림을 한창 발송하는 중에 컨텍스트를 닫아도 가져간 알림이 사라지지 않는지
+ * 종료 후 모든 알림은 정확히 한 번 발송됐거나, 아직 bot_reminder 에 남아 있어야 함
+ * (디스코드 쪽은 mock, 알림 폴링/일괄 조회/공정 큐/순차 종료는 실제 빈)
+ */
+class DiscordBotShutdownTest extends PostgresContainerSupport {
+
+    private static final int REMINDERS = 2000;
+    private static final int GUILDS = 10;
+
+    @Test
+    void claimedRemindersAreDeliveredWhenStoppedMidBurst() throws Exception {
+        ConfigurableApplicationContext context = startNode();
+        Map<String, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+        try {
+            stubDiscord(context, deliveries);
+            BotReminderRepository reminderRepository = context.getBean(BotReminderRepository.class);
+            reminderRepository.deleteAllInBatch();
+            reminderRepository.saveAll(dueReminders());
+
+            context.getBean(ShardAssignment.class).updateOwnedShards(List.of(0));
+            await().atMost(Duration.ofSeconds(30)).until(() -> !deliveries.isEmpty());
+        } finally {
+            context.close();
+        }
+
+        List<String> remaining = remainingChannelIds();
+        assertThat(deliveries.values()).allSatisfy(count -> assertThat(count.get()).isEqualTo(1));
+        assertThat(remaining).doesNotHaveDuplicates().doesNotContainAnyElementsOf(deliveries.keySet());
+        assertThat(deliveries.size() + remaining.size()).isEqualTo(REMINDERS);
+    }
+
+    private ConfigurableApplicationContext startNode() {
+        List<String> args = new ArrayList<>(datasourceArgs());
+        args.addAll(List.of(
+                "--wendy.reminder.store=db",
+                "--wendy.reminder.poll-interval-ms=10",
+                "--wendy.reminder.batch-size=50",
+                "--wendy.shutdown.drain-timeout=60s",
+                "--spring.jpa.show-sql=false"
+        ));
+        return new SpringApplicationBuilder(ReminderNode.class)
+                .web(WebApplicationType.NONE)
+                .run(args.toArray(String[]::new));
+    }
+
+    // 채널마다 TextChannel mock 을 돌려주고, 미투표자 독촉이 채널별로 몇 번 나갔는지 기록
+    private static void stubDiscord(ConfigurableApplicationContext context, Map<String, AtomicInteger> deliveries) {
+        DiscordGateway gateway = context.getBean(DiscordGateway.class);
+        when(gateway.getTextChannelById(anyString())).thenAnswer(invocation -> channel(invocation.getArgument(0)));
+
+        WendyService wendyService = context.getBean(WendyService.class);
+        when(wendyService.getNonVoterIds(any())).thenAnswer(invocation -> {
+            Collection<String> channelIds = invocation.getArgument(0);
+            return channelIds.stream().collect(Collectors.toMap(Function.identity(), id -> List.of("user-" + id)));
+        });
+
+        WendyNotifier notifier = context.getBean(WendyNotifier.class);
+        doAnswer(invocation -> {
+            Thread.sleep(20);
+            TextChannel channel = invocation.getArgument(0);
+            deliveries.computeIfAbsent(channel.getId(), id -> new AtomicInteger()).incrementAndGet();
+            return true;
+        }).when(notifier).remindNonVoters(any(), any(), anyList());
+    }
+
+    private static TextChannel channel(String channelId) {
+        Guild guild = mock(Guild.class);
+        when(guild.getId()).thenReturn("guild-" + Math.floorMod(channelId.hashCode(), GUILDS));
+        TextChannel channel = mock(TextChannel.class);
+        when(channel.getId()).thenReturn(channelId);
+        when(channel.getGuild()).thenReturn(guild);
+        return channel;
+    }
+
+    private static List<BotReminder> dueReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        List<BotReminder> reminders = new ArrayList<>();
+        for (int i = 0; i < REMINDERS; i++) {
+            reminders.add(BotReminder.builder()
+                    .channelId("channel-" + i)
+                    .shardId(0)
+                    .kind(ReminderKind.MIN_15)
+                    .dueAt(now.minusMinutes(1))
+                    .createdAt(now)
+                    .build());
+        }
+        return reminders;
+    }
+
+    // 컨텍스트를 닫은 뒤에 확인하므로 커넥션을 직접 염
+    private static List<String> remainingChannelIds() throws Exception {
+        List<String> channelIds = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT channel_id FROM bot_reminder")) {
+            while (rows.next()) {
+                channelIds.add(rows.getString(1));
+            }
+        }
+        return channelIds;
+    }
+
+    // 알림 경로와 순차 종료에 필요한 빈만 올린 노드 (디스코드 연결/웹/Redis 는 mock 또는 없음)
+    @SpringBootConfiguration
+    @EnableScheduling
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            FlywayAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = BotReminder.class)
+    @EnableJpaRepositories(basePackageClasses = BotReminderRepository.class)
+    @Import({
+            ShardAssignment.class,
+            BotExecutor.class,
+            GuildFairScheduler.class,
+            ReminderDispatcher.class,
+            DbReminderQueue.class,
+            DiscordBotShutdown.class
+    })
+    static class ReminderNode {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        DiscordGateway discordGateway() {
+            return mock(DiscordGateway.class);
+        }
+
+        @Bean
+        WendyService wendyService() {
+            return mock(WendyService.class);
+        }
+
+        @Bean
+        WendyNotifier wendyNotifier() {
+            return mock(WendyNotifier.class);
+        }
+
+        @Bean
+        WendyCommand wendyCommand() {
+            return mock(WendyCommand.class);
+        }
+
+        @Bean
+        VoteStatusShareDebouncer voteStatusShareDebouncer() {
+            return mock(VoteStatusShareDebouncer.class);
+        }
+
+        @Bean
+        OutboundMessageDispatcher outboundMessageDispatcher() {
+            return mock(OutboundMessageDispatcher.class);
+        }
+    }
+}
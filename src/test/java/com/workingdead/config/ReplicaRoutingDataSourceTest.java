@@ -0,0 +1,173 @@
+package com.workingdead.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * readOnly 트랜잭션의 replica 라우팅과 read-your-writes 구간
+ * 실제 DB 대신 커넥션을 내줄 때 어느 쪽인지 기록하는 mock DataSource 두 개를 씀
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(2);
+
+    private final List<String> routes = new ArrayList<>();
+    private DataSource dataSource;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readTx;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                recording("primary"), recording("replica"), WINDOW);
+        routing.afterPropertiesSet();
+        dataSource = new LazyConnectionDataSourceProxy(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+        routes.clear();
+    }
+
+    @AfterEach
+    void unbind() {
+        DataSourceRoutingContext.unbind();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        assertThat(read()).isEqualTo("replica");
+        assertThat(write()).isEqualTo("primary");
+    }
+
+    @Test
+    void committedWritePinsSameCallersReadsToPrimary() {
+        List<Long> cookies = new ArrayList<>();
+        DataSourceRoutingContext.bind(0, cookies::add);
+
+        write();
+        assertThat(cookies).hasSize(1);
+        assertThat(read()).isEqualTo("primary");
+    }
+
+    @Test
+    void rolledBackWriteAndPlainReadsDoNotPinPrimary() throws SQLException {
+        List<Long> cookies = new ArrayList<>();
+        DataSourceRoutingContext.bind(0, cookies::add);
+
+        writeTx.executeWithoutResult(status -> {
+            touchConnection();
+            status.setRollbackOnly();
+        });
+        // 트랜잭션 밖의 커넥션은 primary 로 가지만 쓰기로 기록하지 않음
+        dataSource.getConnection().createStatement();
+
+        assertThat(cookies).isEmpty();
+        assertThat(read()).isEqualTo("replica");
+    }
+
+    @Test
+    void writeWithoutCallerScopeDoesNotLeakToNextTaskOnThread() {
+        write();
+        assertThat(read()).isEqualTo("replica");
+    }
+
+    @Test
+    void windowFollowsCallerAcrossThreadsNotThread() throws Exception {
+        List<Long> cookies = new ArrayList<>();
+        DataSourceRoutingContext.bind(0, cookies::add);
+        write();
+        DataSourceRoutingContext.unbind();
+        long lastWriteAt = cookies.get(0);
+
+        // 같은 스레드를 재사용하는 다른 호출자는 replica
+        DataSourceRoutingContext.bind(0, writtenAt -> { });
+        assertThat(read()).isEqualTo("replica");
+        DataSourceRoutingContext.unbind();
+
+        // 쓰기를 한 호출자의 다음 요청은 다른 스레드에서도 primary
+        String route = CompletableFuture.supplyAsync(() -> {
+            DataSourceRoutingContext.bind(lastWriteAt, writtenAt -> { });
+            try {
+                return read();
+            } finally {
+                DataSourceRoutingContext.unbind();
+            }
+        }).get();
+        assertThat(route).isEqualTo("primary");
+    }
+
+    @Test
+    void filterRestoresWindowFromCookieAndSetsItOnWrite() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(WINDOW);
+
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/votes"), writeResponse, (request, response) -> write());
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(writeResponse.getHeader(HttpHeaders.SET_COOKIE)).contains("HttpOnly");
+
+        List<String> readRoutes = new ArrayList<>();
+        MockHttpServletRequest followUp = new MockHttpServletRequest("GET", "/votes");
+        followUp.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, cookie.getValue()));
+        filter.doFilter(followUp, new MockHttpServletResponse(), (request, response) -> readRoutes.add(read()));
+        filter.doFilter(new MockHttpServletRequest("GET", "/votes"), new MockHttpServletResponse(),
+                (request, response) -> readRoutes.add(read()));
+
+        assertThat(readRoutes).containsExactly("primary", "replica");
+    }
+
+    private String write() {
+        return route(writeTx);
+    }
+
+    private String read() {
+        return route(readTx);
+    }
+
+    // 트랜잭션 안에서 실제 커넥션을 꺼내 어느 DataSource 로 갔는지 반환
+    private String route(TransactionTemplate template) {
+        int before = routes.size();
+        template.executeWithoutResult(status -> touchConnection());
+        return routes.size() > before ? routes.get(routes.size() - 1) : "none";
+    }
+
+    private void touchConnection() {
+        try {
+            DataSourceUtils.getConnection(dataSource).createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private DataSource recording(String name) throws SQLException {
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> {
+            routes.add(name);
+            return mock(Connection.class);
+        });
+        return target;
+    }
+}
@@ -0,0 +1,202 @@
+package com.workingdead.meet.repository;
+
+import com.workingdead.chatbot.repository.BotChannelSessionRepository;
+import com.workingdead.chatbot.repository.BotReminderRepository;
+import com.workingdead.chatbot.repository.BotShardLeaseRepository;
+import com.workingdead.support.CapturingStatementInspector;
+import com.workingdead.support.PostgresContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리포지토리 쿼리마다 실제로 실행되는 SQL 의 실행 계획에 Seq Scan 이 없는지 (V2 등 인덱스 회귀 방지)
+ * - Flyway 로 만든 스키마에 데이터를 채우고 ANALYZE
+ * - 리포지토리 메서드를 호출해 Hibernate 가 보낸 SQL 을 잡은 뒤 EXPLAIN (GENERIC_PLAN) (Postgres 16+)
+ * - enable_seqscan=off 로 두어 데이터 양과 상관없이 "쓸 수 있는 인덱스가 없을 때만" Seq Scan 이 남게 함
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.workingdead.support.CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RepositoryQueryPlanTest extends PostgresContainerSupport {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2026, 1, 5);
+
+    @Autowired VoteRepository voteRepository;
+    @Autowired ParticipantRepository participantRepository;
+    @Autowired ParticipantSelectionRepository selectionRepository;
+    @Autowired PriorityPreferenceRepository priorityRepository;
+    @Autowired VoteProgressRepository progressRepository;
+    @Autowired BotReminderRepository reminderRepository;
+    @Autowired BotShardLeaseRepository leaseRepository;
+    @Autowired BotChannelSessionRepository sessionRepository;
+    @Autowired DataSource dataSource;
+
+    private JdbcTemplate jdbc;
+    private long voteId;
+    private long participantId;
+
+    @BeforeEach
+    void seed() {
+        // 테스트 트랜잭션의 커넥션을 그대로 씀 (끝나면 롤백)
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("""
+                INSERT INTO vote (name, code, start_date, end_date, created_at, discord_channel_id)
+                SELECT 'vote-' || g, 'plan-' || g, DATE '2026-01-05', DATE '2026-01-11', now(), 'channel-' || g
+                FROM generate_series(1, 200) g
+                """);
+        jdbc.execute("INSERT INTO vote_progress (vote_id) SELECT id FROM vote WHERE code LIKE 'plan-%'");
+        jdbc.execute("""
+                INSERT INTO participant (vote_id, display_name, submitted, discord_user_id)
+                SELECT v.id, 'member-' || g, g % 2 = 0, 'user-' || v.id || '-' || g
+                FROM vote v, generate_series(1, 8) g
+                WHERE v.code LIKE 'plan-%'
+                """);
+        jdbc.execute("""
+                INSERT INTO participant_selection (participant_id, vote_id, date, period, selected)
+                SELECT p.id, p.vote_id, DATE '2026-01-05' + d, period, (p.id + d) % 3 = 0
+                FROM participant p, generate_series(0, 6) d, unnest(ARRAY['LUNCH', 'DINNER']) period
+                WHERE p.display_name LIKE 'member-%'
+                """);
+        jdbc.execute("""
+                INSERT INTO priority_preference (participant_id, vote_id, date, period, priority_index, weight, created_at)
+                SELECT p.id, p.vote_id, DATE '2026-01-05' + i, 'LUNCH', i, 1.0 / (i + 1), now()
+                FROM participant p, generate_series(0, 2) i
+                WHERE p.display_name LIKE 'member-%'
+                """);
+        jdbc.execute("""
+                INSERT INTO bot_reminder (channel_id, shard_id, kind, due_at, created_at)
+                SELECT 'channel-' || g, g % 4, 'MIN_15', LOCALTIMESTAMP + g * INTERVAL '1 minute', LOCALTIMESTAMP
+                FROM generate_series(1, 2000) g
+                """);
+        jdbc.execute("""
+                INSERT INTO bot_channel_session (channel_id, shard_id, active, has_vote, updated_at)
+                SELECT 'channel-' || g, g % 4, true, false, LOCALTIMESTAMP
+                FROM generate_series(1, 2000) g
+                ON CONFLICT (channel_id) DO NOTHING
+                """);
+        jdbc.execute("""
+                INSERT INTO bot_shard_lease (shard_id, owner_id, expires_at)
+                SELECT g, 'node-' || g, LOCALTIMESTAMP FROM generate_series(0, 63) g
+                ON CONFLICT (shard_id) DO NOTHING
+                """);
+        jdbc.execute("ANALYZE");
+
+        voteId = jdbc.queryForObject("SELECT MIN(id) FROM vote WHERE code LIKE 'plan-%'", Long.class);
+        participantId = jdbc.queryForObject("SELECT MIN(id) FROM participant WHERE vote_id = ?", Long.class, voteId);
+    }
+
+    static Stream<QueryCase> queries() {
+        return Stream.of(
+                new QueryCase("vote.findByCode", t -> t.voteRepository.findByCode("plan-1")),
+                new QueryCase("vote.findDiscordChannelIdById", t -> t.voteRepository.findDiscordChannelIdById(t.voteId)),
+
+                new QueryCase("participant.findByVoteId", t -> t.participantRepository.findByVoteId(t.voteId)),
+                new QueryCase("participant.findStatusByVoteId", t -> t.participantRepository.findStatusByVoteId(t.voteId)),
+                new QueryCase("participant.findStatusById", t -> t.participantRepository.findStatusById(t.participantId)),
+                new QueryCase("participant.findUnsubmittedDiscordUserIds",
+                        t -> t.participantRepository.findUnsubmittedDiscordUserIds(t.voteId)),
+                new QueryCase("participant.findUnsubmittedDiscordUserIdsByVoteIds",
+                        t -> t.participantRepository.findUnsubmittedDiscordUserIdsByVoteIds(
+                                List.of(t.voteId, t.voteId + 1, t.voteId + 2))),
+                new QueryCase("participant.markSubmitted", t -> t.participantRepository.markSubmitted(t.participantId)),
+
+                new QueryCase("selection.findByVoteId", t -> t.selectionRepository.findByVoteId(t.voteId)),
+                new QueryCase("selection.findByVoteIdAndParticipantId",
+                        t -> t.selectionRepository.findByVoteIdAndParticipantId(t.voteId, t.participantId)),
+                new QueryCase("selection.findByParticipantIdOrderByIdAsc",
+                        t -> t.selectionRepository.findByParticipantIdOrderByIdAsc(t.participantId)),
+                new QueryCase("selection.findByVoteIdAndDateBetween",
+                        t -> t.selectionRepository.findByVoteIdAndDateBetween(t.voteId, WEEK_START, WEEK_START.plusDays(2))),
+                new QueryCase("selection.findByVoteIdAndParticipantIdAndDateBetween",
+                        t -> t.selectionRepository.findByVoteIdAndParticipantIdAndDateBetween(
+                                t.voteId, t.participantId, WEEK_START, WEEK_START.plusDays(2))),
+                new QueryCase("selection.deleteByParticipantId",
+                        t -> t.selectionRepository.deleteByParticipantId(t.participantId)),
+
+                new QueryCase("priority.findByParticipantIdAndVoteId",
+                        t -> t.priorityRepository.findByParticipantIdAndVoteId(t.participantId, t.voteId)),
+                new QueryCase("priority.findByVoteId", t -> t.priorityRepository.findByVoteId(t.voteId)),
+                new QueryCase("priority.findByParticipantIdOrderByPriorityIndexAsc",
+                        t -> t.priorityRepository.findByParticipantIdOrderByPriorityIndexAsc(t.participantId)),
+                new QueryCase("priority.deleteByParticipantId",
+                        t -> t.priorityRepository.deleteByParticipantId(t.participantId)),
+
+                new QueryCase("progress.adjustCounts", t -> t.progressRepository.adjustCounts(t.voteId, 1, 0)),
+                new QueryCase("progress.recordSubmission",
+                        t -> t.progressRepository.recordSubmission(t.voteId, 1, LocalDateTime.now())),
+                new QueryCase("progress.findResultVersionById", t -> t.progressRepository.findResultVersionById(t.voteId)),
+                new QueryCase("progress.bumpResultVersion", t -> t.progressRepository.bumpResultVersion(t.voteId)),
+
+                new QueryCase("reminder.lockDue",
+                        t -> t.reminderRepository.lockDue(
+                                List.of(0, 1), LocalDateTime.now().plusHours(1), LocalDateTime.now().minusMinutes(5), 100)),
+                new QueryCase("reminder.markClaimed",
+                        t -> t.reminderRepository.markClaimed(List.of(1L, 2L), LocalDateTime.now())),
+                new QueryCase("reminder.deleteClaimed", t -> t.reminderRepository.deleteClaimed(1L)),
+                new QueryCase("reminder.deleteByChannelId", t -> t.reminderRepository.deleteByChannelId("channel-1")),
+
+                new QueryCase("session.findAllById",
+                        t -> t.sessionRepository.findAllById(List.of("channel-1", "channel-2"))),
+                new QueryCase("session.deleteStale",
+                        t -> t.sessionRepository.deleteStale(List.of(0, 1), LocalDateTime.now().minusDays(7))),
+
+                new QueryCase("lease.tryAcquire", t -> t.leaseRepository.tryAcquire(1, "node-1", 10.0)),
+                new QueryCase("lease.release", t -> t.leaseRepository.release(List.of(1, 2), "node-1"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void repositoryQueryUsesIndexes(QueryCase query) {
+        CapturingStatementInspector.clear();
+        query.call().accept(this);
+        List<String> statements = CapturingStatementInspector.captured();
+        assertThat(statements).as("SQL issued by %s", query.name()).isNotEmpty();
+
+        jdbc.execute("SET LOCAL enable_seqscan = off");
+        for (String sql : statements) {
+            String plan = String.join("\n",
+                    jdbc.queryForList("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql), String.class));
+            assertThat(plan).as("plan of %s:%n%s%n%s", query.name(), sql, plan).doesNotContain("Seq Scan");
+        }
+    }
+
+    // JDBC 의 ? 자리표시자를 EXPLAIN (GENERIC_PLAN) 이 받는 $1, $2 ... 로 바꿈 (문자열 리터럴 안은 그대로)
+    private static String numberParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 8);
+        boolean quoted = false;
+        int index = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (c == '?' && !quoted) {
+                numbered.append('$').append(++index);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    record QueryCase(String name, Consumer<RepositoryQueryPlanTest> call) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.workingdead.meet.service;
+
+import com.workingdead.meet.dto.ParticipantDtos;
+import com.workingdead.support.PostgresContainerSupport;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 참여자 선택/상태 조회가 정해진 쿼리 수로 끝나는지 (Hibernate statistics)
+ * - getParticipantChoices: 참여자 1 + 선택 1 + 우선순위 1 = 3, 엔티티/컬렉션 로딩 없음
+ * - getParticipantStatusByVoteId: 참여자 수와 상관없이 1
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ParticipantService.class)
+class ParticipantServiceQueryCountTest extends PostgresContainerSupport {
+
+    private static final int PARTICIPANTS = 20;
+
+    @Autowired ParticipantService participantService;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired DataSource dataSource;
+
+    private Statistics statistics;
+    private long voteId;
+    private long participantId;
+
+    @BeforeEach
+    void seed() {
+        // 엔티티를 거치지 않고 넣어 영속성 컨텍스트를 비워 둠 (테스트 트랜잭션과 함께 롤백)
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        voteId = jdbc.queryForObject("""
+                INSERT INTO vote (name, code, start_date, end_date, created_at)
+                VALUES ('query-count', 'query-count', DATE '2026-01-05', DATE '2026-01-11', now())
+                RETURNING id
+                """, Long.class);
+        jdbc.update("INSERT INTO vote_progress (vote_id) VALUES (?)", voteId);
+        jdbc.update("""
+                INSERT INTO participant (vote_id, display_name, submitted)
+                SELECT ?, 'member-' || g, g % 2 = 0 FROM generate_series(1, ?) g
+                """, voteId, PARTICIPANTS);
+        participantId = jdbc.queryForObject("SELECT MIN(id) FROM participant WHERE vote_id = ?", Long.class, voteId);
+        jdbc.update("""
+                INSERT INTO participant_selection (participant_id, vote_id, date, period, selected)
+                SELECT ?, ?, DATE '2026-01-05' + d, period, true
+                FROM generate_series(0, 6) d, unnest(ARRAY['LUNCH', 'DINNER']) period
+                """, participantId, voteId);
+        jdbc.update("""
+                INSERT INTO priority_preference (participant_id, vote_id, date, period, priority_index, weight, created_at)
+                SELECT ?, ?, DATE '2026-01-05' + i, 'LUNCH', i, 1.0 / (i + 1), now()
+                FROM generate_series(0, 2) i
+                """, participantId, voteId);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void participantChoicesUseThreeProjectionQueries() {
+        ParticipantDtos.ParticipantChoicesRes choices = participantService.getParticipantChoices(participantId);
+
+        assertThat(choices.selections()).hasSize(14);
+        assertThat(choices.priorities()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    void participantStatusUsesOneQueryRegardlessOfParticipantCount() {
+        List<ParticipantDtos.ParticipantStatusRes> statuses = participantService.getParticipantStatusByVoteId(voteId);
+
+        assertThat(statuses).hasSize(PARTICIPANTS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
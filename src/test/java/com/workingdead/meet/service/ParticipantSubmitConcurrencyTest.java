@@ -0,0 +1,101 @@
+package com.workingdead.meet.service;
+
+import com.workingdead.meet.dto.ParticipantDtos;
+import com.workingdead.support.PostgresContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 참여자가 동시에 여러 번 제출해도 제출 수(vote_progress.submitted_count)는 한 번만 오르는지
+ * 제출마다 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ParticipantService.class)
+class ParticipantSubmitConcurrencyTest extends PostgresContainerSupport {
+
+    private static final int SUBMISSIONS = 8;
+
+    @Autowired ParticipantService participantService;
+    @Autowired DataSource dataSource;
+
+    private JdbcTemplate jdbc;
+    private long voteId;
+    private long participantId;
+
+    @BeforeEach
+    void seed() {
+        jdbc = new JdbcTemplate(dataSource);
+        voteId = jdbc.queryForObject("""
+                INSERT INTO vote (name, code, start_date, end_date, created_at)
+                VALUES ('submit-race', 'submit-race', DATE '2026-01-05', DATE '2026-01-11', now())
+                RETURNING id
+                """, Long.class);
+        jdbc.update("INSERT INTO vote_progress (vote_id, total_participants) VALUES (?, 1)", voteId);
+        participantId = jdbc.queryForObject("""
+                INSERT INTO participant (vote_id, display_name, submitted) VALUES (?, 'member', false)
+                RETURNING id
+                """, Long.class, voteId);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbc.update("DELETE FROM participant_selection WHERE vote_id = ?", voteId);
+        jdbc.update("DELETE FROM priority_preference WHERE vote_id = ?", voteId);
+        jdbc.update("DELETE FROM participant WHERE vote_id = ?", voteId);
+        jdbc.update("DELETE FROM vote_progress WHERE vote_id = ?", voteId);
+        jdbc.update("DELETE FROM vote WHERE id = ?", voteId);
+    }
+
+    @Test
+    void concurrentSubmissionsCountParticipantOnce() throws Exception {
+        ParticipantDtos.SubmitScheduleReq request = new ParticipantDtos.SubmitScheduleReq(
+                List.of(new ParticipantDtos.DateSlotReq(LocalDate.of(2026, 1, 5),
+                        List.of(new ParticipantDtos.SlotReq("LUNCH", true)))),
+                List.of());
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(SUBMISSIONS);
+        try {
+            List<Future<?>> submissions = new ArrayList<>();
+            for (int i = 0; i < SUBMISSIONS; i++) {
+                submissions.add(pool.submit(() -> {
+                    start.await();
+                    return participantService.submitSchedule(participantId, request);
+                }));
+            }
+            start.countDown();
+            for (Future<?> submission : submissions) {
+                submission.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Integer submittedCount = jdbc.queryForObject(
+                "SELECT submitted_count FROM vote_progress WHERE vote_id = ?", Integer.class, voteId);
+        assertThat(submittedCount).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT submitted FROM participant WHERE id = ?", Boolean.class, participantId))
+                .isTrue();
+    }
+}
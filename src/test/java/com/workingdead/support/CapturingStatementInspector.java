@@ -0,0 +1,35 @@
+package com.workingdead.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 모아 두는 StatementInspector (쿼리 계획 테스트용)
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> captured = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (captured) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+
+    public static void clear() {
+        synchronized (captured) {
+            captured.clear();
+        }
+    }
+
+    public static List<String> captured() {
+        synchronized (captured) {
+            return List.copyOf(captured);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.workingdead.support;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+/**
+ * 실제 Postgres 가 필요한 테스트의 공통 부모 (Testcontainers, 도커가 없으면 건너뜀)
+ * 컨테이너는 테스트 클래스 전체가 하나를 공유하고, 스키마는 각 컨텍스트의 Flyway 가 만듦
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresContainerSupport {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        if (DockerClientFactory.instance().isDockerAvailable()) {
+            POSTGRES.start();
+        }
+    }
+
+    // SpringApplicationBuilder 로 직접 띄우는 컨텍스트용 (application.yaml 보다 우선하도록 커맨드라인 인자로 전달)
+    protected static List<String> datasourceArgs() {
+        return List.of(
+                "--spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                "--spring.datasource.username=" + POSTGRES.getUsername(),
+                "--spring.datasource.password=" + POSTGRES.getPassword()
+        );
+    }
+}